@@ -0,0 +1,73 @@
+package com.codewordle.codewordle.benchmark;
+
+import com.codewordle.codewordle.dto.LetterFeedback;
+import com.codewordle.codewordle.service.FeedbackEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feedback calculation (the former GameService.calculateFeedback) across word lengths and letter patterns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedbackBenchmark {
+
+    @Param({"4", "6", "9", "12"})
+    private int length;
+
+    /**
+     * distinct: no repeated letters, half of them misplaced;
+     * duplicates: a repeated letter in both words;
+     * solved: the guess is the target.
+     */
+    @Param({"distinct", "duplicates", "solved"})
+    private String pattern;
+
+    private String guess;
+    private String target;
+
+    @Setup
+    public void setUp() {
+        StringBuilder targetBuilder = new StringBuilder();
+        StringBuilder guessBuilder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            targetBuilder.append((char) ('A' + i));
+            switch (pattern) {
+                case "distinct" -> guessBuilder.append((char) (i % 2 == 0 ? 'A' + (length - 1 - i) : 'N' + i));
+                case "duplicates" -> guessBuilder.append(i % 3 == 0 ? 'A' : (char) ('A' + i));
+                default -> guessBuilder.append((char) ('A' + i));
+            }
+        }
+        if (pattern.equals("duplicates")) {
+            targetBuilder.setCharAt(length - 1, 'A');
+        }
+        target = targetBuilder.toString();
+        guess = guessBuilder.toString();
+    }
+
+    @Benchmark
+    public long packedFeedback() {
+        return FeedbackEngine.compute(guess, target);
+    }
+
+    @Benchmark
+    public List<LetterFeedback> letterFeedbackList() {
+        return FeedbackEngine.toLetterFeedback(guess, FeedbackEngine.compute(guess, target));
+    }
+}
@@ -0,0 +1,61 @@
+package com.codewordle.codewordle.benchmark;
+
+import com.codewordle.codewordle.dto.ActiveGameStateResponse;
+import com.codewordle.codewordle.dto.GuessResult;
+import com.codewordle.codewordle.dto.LetterFeedback;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.service.FeedbackEngine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the responses returned by the guess and active-game endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GuessResult guessResult;
+    private ActiveGameStateResponse activeGame;
+
+    @Setup
+    public void setUp() {
+        String target = "HERENCIA";
+        String[] guesses = {"INTERFAZ", "ABSTRACT", "HEREDADO", "HERRAMIA", "HERENCIA"};
+        List<List<LetterFeedback>> previousGuesses = new ArrayList<>();
+        for (String guess : guesses) {
+            previousGuesses.add(FeedbackEngine.toLetterFeedback(guess, FeedbackEngine.compute(guess, target)));
+        }
+        guessResult = new GuessResult(GameStatus.WON, previousGuesses.get(guesses.length - 1), 1, target, 1);
+        activeGame = new ActiveGameStateResponse(42L, target.length(), 6, previousGuesses, 1);
+    }
+
+    @Benchmark
+    public byte[] guessResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(guessResult);
+    }
+
+    @Benchmark
+    public byte[] activeGameState() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(activeGame);
+    }
+}
@@ -0,0 +1,81 @@
+package com.codewordle.codewordle.benchmark;
+
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.service.JwtService;
+import com.codewordle.codewordle.service.TokenRevocationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and the validation done by JwtAuthenticationFilter on every request,
+ * with the verified-claims cache (repeat token) and without it (first sight of a token).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "Y29kZXdvcmRsZS10ZXN0LXNlY3JldC1rZXktdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaHMyNTY=";
+
+    private JwtService cachingJwtService;
+    private JwtService uncachedJwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingJwtService = jwtService(10_000);
+        uncachedJwtService = jwtService(0);
+        user = new User();
+        user.setId(1);
+        user.setName("bench");
+        user.setEmail("bench@codewordle.test");
+        user.setRole("ROLE_USER");
+        token = cachingJwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingJwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateRepeatToken() {
+        return validate(cachingJwtService);
+    }
+
+    @Benchmark
+    public boolean validateUncached() {
+        return validate(uncachedJwtService);
+    }
+
+    private boolean validate(JwtService jwtService) {
+        String username = jwtService.extractUsername(token);
+        User principal = jwtService.extractPrincipal(token).orElseThrow();
+        return username != null && jwtService.isTokenValid(token, principal);
+    }
+
+    private static JwtService jwtService(long claimsCacheSize) {
+        JwtService jwtService = new JwtService(new TokenRevocationService());
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheSize", claimsCacheSize);
+        ReflectionTestUtils.setField(jwtService, "statelessPrincipal", true);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        return jwtService;
+    }
+}
@@ -0,0 +1,61 @@
+package com.codewordle.codewordle.benchmark;
+
+import com.codewordle.codewordle.dto.UserCreateRequest;
+import com.codewordle.codewordle.dto.UserResponse;
+import com.codewordle.codewordle.mapper.UserMapper;
+import com.codewordle.codewordle.mapper.UserMapperImpl;
+import com.codewordle.codewordle.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct-generated UserMapper in both directions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapperImpl();
+    private UserCreateRequest request;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        request = new UserCreateRequest();
+        request.setName("bench");
+        request.setEmail("bench@codewordle.test");
+        request.setPassword("password123");
+        request.setConfirmPassword("password123");
+
+        user = new User();
+        user.setId(7);
+        user.setName("bench");
+        user.setEmail("bench@codewordle.test");
+        user.setPassword("$2a$10$hash");
+        user.setRole("ROLE_USER");
+    }
+
+    @Benchmark
+    public User toEntity() {
+        return userMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public UserResponse toDto() {
+        return userMapper.toDto(user);
+    }
+}
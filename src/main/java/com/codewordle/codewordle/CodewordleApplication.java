@@ -2,8 +2,12 @@ package com.codewordle.codewordle;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@PropertySource("classpath:codewordle-defaults.properties")
 public class CodewordleApplication {
 
 	public static void main(String[] args) {
@@ -1,5 +1,7 @@
 package com.codewordle.codewordle.config;
 
+import com.codewordle.codewordle.metrics.CodewordleMetrics;
+import com.codewordle.codewordle.model.User;
 import com.codewordle.codewordle.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,6 +17,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * A filter that intercepts incoming HTTP requests to validate JWTs.
@@ -26,6 +29,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService; // Our CustomUserDetailsService
+    private final CodewordleMetrics metrics;
 
     /**
      * The main logic of the filter.
@@ -49,29 +53,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // 2. Extract the token from the "Bearer " prefix.
         final String jwt = authHeader.substring(7);
+        long start = metrics.start();
+        boolean authenticated = false;
+        try {
+            authenticated = authenticate(jwt, request);
+        } finally {
+            metrics.recordJwtVerification(start, authenticated);
+        }
+        // 4. Continue the filter chain.
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Validates the token and, if it is valid, sets the authentication in the SecurityContext.
+     * @return true if the request was authenticated with this token.
+     */
+    private boolean authenticate(String jwt, HttpServletRequest request) {
         final String username = jwtService.extractUsername(jwt);
 
         // 3. Validate the token.
         // If username is present and the user is not already authenticated.
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (username == null || SecurityContextHolder.getContext().getAuthentication() != null) {
+            return false;
+        }
+        // Self-contained tokens give us the principal directly; older tokens fall back to the database.
+        Optional<User> principal = jwtService.extractPrincipal(jwt);
+        UserDetails userDetails = principal.isPresent()
+                ? principal.get()
+                : this.userDetailsService.loadUserByUsername(username);
 
-            // If the token is valid for this user.
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                // Create an authentication object.
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null, // Credentials are not needed for token-based auth.
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                // Update the SecurityContextHolder: The user is now authenticated for this request.
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        // If the token is valid for this user.
+        if (!jwtService.isTokenValid(jwt, userDetails)) {
+            return false;
         }
-        // 4. Continue the filter chain.
-        filterChain.doFilter(request, response);
+        // Create an authentication object.
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null, // Credentials are not needed for token-based auth.
+                userDetails.getAuthorities()
+        );
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+        // Update the SecurityContextHolder: The user is now authenticated for this request.
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        return true;
     }
-}
\ No newline at end of file
+}
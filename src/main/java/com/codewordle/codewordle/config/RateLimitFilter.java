@@ -0,0 +1,93 @@
+package com.codewordle.codewordle.config;
+
+import com.codewordle.codewordle.metrics.CodewordleMetrics;
+import com.codewordle.codewordle.model.User;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Limits how often each authenticated user can guess and start games.
+ * <p>
+ * Runs right after the {@link JwtAuthenticationFilter}, so the user is known from the token alone and
+ * a request over the limit is answered 429 with a Retry-After header before any controller,
+ * repository or database work. Starting a game includes creating and joining versus matches.
+ * Requests without an authenticated user pass through: the authorization rules reject them.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final PathPatternRequestMatcher.Builder PATHS = PathPatternRequestMatcher.withDefaults();
+    private static final RequestMatcher GUESS = PATHS.matcher(HttpMethod.POST, "/api/games/*/guess");
+    private static final RequestMatcher START = new OrRequestMatcher(
+            PATHS.matcher(HttpMethod.POST, "/api/games/start"),
+            PATHS.matcher(HttpMethod.POST, "/api/matches"),
+            PATHS.matcher(HttpMethod.POST, "/api/matches/*/join"));
+
+    private final RateLimiter guessLimiter;
+    private final RateLimiter startLimiter;
+    private final CodewordleMetrics metrics;
+
+    /**
+     * @param guessLimiter The buckets for guesses.
+     * @param startLimiter The buckets for starting games.
+     * @param metrics Counts the rejected requests.
+     */
+    public RateLimitFilter(RateLimiter guessLimiter, RateLimiter startLimiter, CodewordleMetrics metrics) {
+        this.guessLimiter = guessLimiter;
+        this.startLimiter = startLimiter;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            String endpoint = null;
+            long waitNanos = 0;
+            if (GUESS.matches(request)) {
+                endpoint = "guess";
+                waitNanos = guessLimiter.tryAcquire(user.getId());
+            } else if (START.matches(request)) {
+                endpoint = "start";
+                waitNanos = startLimiter.tryAcquire(user.getId());
+            }
+            if (waitNanos > 0) {
+                metrics.rateLimited(endpoint);
+                reject(response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        // Retry-After has a one-second resolution: round up so the retry is allowed.
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"type\":\"about:blank\",\"title\":\"Too Many Requests\",\"status\":429,"
+                + "\"detail\":\"Too many requests, retry in " + retryAfterSeconds + " s\"}");
+    }
+}
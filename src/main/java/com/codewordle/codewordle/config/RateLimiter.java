@@ -0,0 +1,72 @@
+package com.codewordle.codewordle.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-user token buckets, kept as the generic cell rate algorithm (GCRA): each bucket is a single
+ * {@link AtomicLong} holding the user's "theoretical arrival time", updated with a compare-and-set
+ * loop, so requests of the same user never take a lock.
+ * <p>
+ * A user may send {@code burst} requests at once and then one every {@code 1 / ratePerSecond}
+ * seconds. Buckets live in a bounded map ({@code maxUsers}) and expire once unused for as long as a
+ * bucket takes to refill, when forgetting them changes nothing. A user evicted early by the size
+ * bound starts again with a full bucket.
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final LongSupplier clock;
+    private final Cache<Integer, AtomicLong> buckets;
+
+    /**
+     * @param ratePerSecond Sustained requests per second allowed per user.
+     * @param burst Requests a user may send at once after being idle.
+     * @param maxUsers Maximum number of buckets kept.
+     */
+    public RateLimiter(double ratePerSecond, int burst, long maxUsers) {
+        this(ratePerSecond, burst, maxUsers, System::nanoTime);
+    }
+
+    RateLimiter(double ratePerSecond, int burst, long maxUsers, LongSupplier clock) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("The rate and the burst must be positive");
+        }
+        this.intervalNanos = Math.max(1, Math.round(1e9 / ratePerSecond));
+        this.capacityNanos = intervalNanos * burst;
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofNanos(capacityNanos))
+                .ticker(clock::getAsLong)
+                .build();
+    }
+
+    /**
+     * Takes a token from a user's bucket if there is one.
+     *
+     * @param userId The user.
+     * @return 0 if the request is allowed, otherwise how long the user must wait, in nanoseconds.
+     */
+    public long tryAcquire(int userId) {
+        // A new bucket is full: its theoretical arrival time is now.
+        AtomicLong bucket = buckets.get(userId, id -> new AtomicLong(clock.getAsLong()));
+        while (true) {
+            long now = clock.getAsLong();
+            long current = bucket.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long debt = next - now;
+            if (debt > capacityNanos) {
+                return debt - capacityNanos;
+            }
+            if (bucket.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.codewordle.codewordle.config;
 
+import com.codewordle.codewordle.metrics.CodewordleMetrics;
 import com.codewordle.codewordle.service.CustomUserDetailsService;
 import com.codewordle.codewordle.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,6 +33,7 @@ public class SecurityConfig {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final CodewordleMetrics metrics;
     // We no longer need to inject the UserDetailsService here directly.
     // Spring will find our @Service-annotated CustomUserDetailsService bean automatically.
 
@@ -58,8 +63,15 @@ public class SecurityConfig {
      */
     @Bean
     @Order(1)
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        final JwtAuthenticationFilter jwtAuthFilter = new JwtAuthenticationFilter(jwtService, userDetailsService);
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            @Value("${codewordle.rate-limit.enabled:true}") boolean rateLimitEnabled,
+            @Value("${codewordle.rate-limit.guess.per-second:10}") double guessesPerSecond,
+            @Value("${codewordle.rate-limit.guess.burst:20}") int guessBurst,
+            @Value("${codewordle.rate-limit.start.per-second:1}") double startsPerSecond,
+            @Value("${codewordle.rate-limit.start.burst:10}") int startBurst,
+            @Value("${codewordle.rate-limit.max-users:100000}") long rateLimitMaxUsers) throws Exception {
+        final JwtAuthenticationFilter jwtAuthFilter = new JwtAuthenticationFilter(jwtService, userDetailsService, metrics);
 
         http
                 // Esta cadena ahora es el "catch-all" para todo lo que no sea H2.
@@ -67,7 +79,11 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(req ->
                         req
-                                // Endpoints de la API de autenticación son públicos
+                                // Async dispatches write the body of a request that was already authorized
+                                // (streamed exports); the JWT filter does not run on them again.
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                // Endpoints de la API de autenticación son públicos, salvo el cierre de sesión
+                                .requestMatchers("/auth/logout").authenticated()
                                 .requestMatchers("/auth/**").permitAll()
                                 // PÁGINAS (JSPs) que cualquiera puede ver
                                 .requestMatchers("/login", "/register", "/dashboard").permitAll()
@@ -75,11 +91,23 @@ public class SecurityConfig {
                                 .requestMatchers("/js/**", "/css/**", "/images/**").permitAll()
                                 // RUTA DE ARCHIVOS JSP es pública (para el forward interno)
                                 .requestMatchers("/WEB-INF/jsp/**").permitAll()
+                                // Health checks are public; metrics reveal usage and are for administrators only
+                                .requestMatchers("/actuator/health").permitAll()
+                                .requestMatchers("/actuator/prometheus").hasRole("ADMIN")
+                                // Word administration (bulk imports) is for administrators only
+                                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                                 // TODO LO DEMÁS (ej: /api/profile, /api/game) requiere autenticación
                                 .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+        if (rateLimitEnabled) {
+            // Per-user limits on guesses and game starts, checked as soon as the token identifies the user.
+            http.addFilterAfter(new RateLimitFilter(
+                    new RateLimiter(guessesPerSecond, guessBurst, rateLimitMaxUsers),
+                    new RateLimiter(startsPerSecond, startBurst, rateLimitMaxUsers),
+                    metrics), JwtAuthenticationFilter.class);
+        }
 
         return http.build();
     }
@@ -97,10 +125,17 @@ public class SecurityConfig {
     /**
      * Provides the PasswordEncoder bean for hashing passwords.
      * Spring Security will discover this bean and use it.
+     * BCrypt runs on a bounded pool (one thread per core by default) so login and
+     * registration bursts are rejected with 503 instead of exhausting the request threads.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${codewordle.security.password-hashing.threads:0}") int threads,
+            @Value("${codewordle.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${codewordle.security.password-hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, retryAfterSeconds, meterRegistry);
     }
 
     /*
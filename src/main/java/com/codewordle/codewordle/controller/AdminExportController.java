@@ -0,0 +1,59 @@
+package com.codewordle.codewordle.controller;
+
+import com.codewordle.codewordle.service.GameExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+/**
+ * REST controller for the analytics exports. Restricted to the ADMIN role by the security configuration.
+ * <p>
+ * The body is written from an async request thread while the rows are read, so the response starts
+ * immediately and is never buffered whole.
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+public class AdminExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final GameExportService gameExportService;
+
+    /**
+     * Streams every game as NDJSON.
+     *
+     * @param gzip Whether to compress the export.
+     * @return one JSON object per game.
+     */
+    @GetMapping("/games")
+    public ResponseEntity<StreamingResponseBody> exportGames(@RequestParam(defaultValue = "false") boolean gzip) {
+        return export(GameExportService.Dataset.GAMES, gzip);
+    }
+
+    /**
+     * Streams every guess as NDJSON.
+     *
+     * @param gzip Whether to compress the export.
+     * @return one JSON object per guess.
+     */
+    @GetMapping("/guesses")
+    public ResponseEntity<StreamingResponseBody> exportGuesses(@RequestParam(defaultValue = "false") boolean gzip) {
+        return export(GameExportService.Dataset.GUESSES, gzip);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(GameExportService.Dataset dataset, boolean gzip) {
+        String filename = dataset.name().toLowerCase(Locale.ROOT) + (gzip ? ".ndjson.gz" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(output -> gameExportService.export(dataset, output, gzip));
+    }
+}
@@ -0,0 +1,48 @@
+package com.codewordle.codewordle.controller;
+
+import com.codewordle.codewordle.dto.WordImportResponse;
+import com.codewordle.codewordle.service.WordImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * REST controller for word administration. Restricted to the ADMIN role by the security configuration.
+ */
+@RestController
+@RequestMapping("/api/admin/words")
+@RequiredArgsConstructor
+public class AdminWordController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final WordImportService wordImportService;
+
+    /**
+     * Imports a CSV word list ({@code text,topic} per line) streamed in the request body.
+     *
+     * @param topic Optional topic for the lines that do not have one.
+     * @param body The raw request body.
+     * @return the import report.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<WordImportResponse> importCsv(@RequestParam(required = false) String topic,
+                                                        InputStream body) {
+        return ResponseEntity.ok(wordImportService.importCsv(body, topic));
+    }
+
+    /**
+     * Imports an NDJSON word list ({@code {"text": "...", "topic": "..."}} per line) streamed in the request body.
+     *
+     * @param topic Optional topic for the objects that do not have one.
+     * @param body The raw request body.
+     * @return the import report.
+     */
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<WordImportResponse> importNdjson(@RequestParam(required = false) String topic,
+                                                           InputStream body) {
+        return ResponseEntity.ok(wordImportService.importNdjson(body, topic));
+    }
+}
@@ -5,9 +5,11 @@ import com.codewordle.codewordle.dto.LoginRequest;
 import com.codewordle.codewordle.dto.LoginResponse;
 import com.codewordle.codewordle.dto.UserCreateRequest;
 import com.codewordle.codewordle.dto.UserResponse;
+import com.codewordle.codewordle.model.User;
 import com.codewordle.codewordle.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -53,4 +55,16 @@ public class AuthController {
         LoginResponse response = this.authService.Login(request);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Logs the authenticated user out of every device by revoking all the tokens issued so far.
+     *
+     * @param currentUser The authenticated User object, injected by Spring Security.
+     * @return an empty 204 response.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal User currentUser) {
+        authService.Logout(currentUser);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,9 +1,10 @@
 package com.codewordle.codewordle.controller;
 
 import com.codewordle.codewordle.dto.*;
-import com.codewordle.codewordle.model.Game;
 import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.service.GameHistoryService;
 import com.codewordle.codewordle.service.GameService;
+import com.codewordle.codewordle.service.GuessReplayCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -21,14 +22,15 @@ import org.springframework.web.bind.annotation.*;
 public class GameController {
 
     private final GameService gameService;
-    private static final int MAX_ATTEMPTS = 6;
+    private final GameHistoryService gameHistoryService;
+    private final GuessReplayCache guessReplayCache;
 
     /**
      * Endpoint for an authenticated user to start a new game.
      * The user's identity is retrieved directly from the security context.
      *
      * @param currentUser The authenticated User object, injected by Spring Security.
-     * @param request The request body containing the topic for the new game.
+     * @param request The request body containing the topic for the new game and whether it is the daily puzzle.
      * @return A ResponseEntity containing the initial state of the newly created game,
      *         including the game ID, word length, and max attempts.
      */
@@ -37,22 +39,18 @@ public class GameController {
             @AuthenticationPrincipal User currentUser,
             @Valid @RequestBody StartGameRequest request) {
 
-        Game newGame = gameService.startNewGame(currentUser, request.getTopic());
-
-        GameStateResponse response = new GameStateResponse(
-                newGame.getId(),
-                newGame.getTargetWord().getText().length(),
-                MAX_ATTEMPTS
-        );
-
+        GameStateResponse response = gameService.startGame(currentUser, request.getTopic(), request.isDaily());
         return ResponseEntity.ok(response);
     }
 
     /**
      * Endpoint for an authenticated user to submit a guess for an ongoing game.
+     * A submission repeated with the same {@code Idempotency-Key} header returns the result of the
+     * first one and does not use another attempt.
      *
      * @param currentUser The authenticated User object.
      * @param gameId The ID of the game, extracted from the URL path.
+     * @param idempotencyKey An optional key identifying this submission, chosen by the client.
      * @param request The request body containing the user's guessed word.
      * @return A ResponseEntity containing detailed feedback for the guess, the remaining
      *         attempts, and the current status of the game (IN_PROGRESS, WON, or LOST).
@@ -61,12 +59,51 @@ public class GameController {
     public ResponseEntity<GuessResult> makeGuess(
             @AuthenticationPrincipal User currentUser,
             @PathVariable Long gameId,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody GuessRequest request) {
 
-        GuessResult result = gameService.makeGuess(gameId, request.getWord(), currentUser);
+        GuessResult result = idempotencyKey == null
+                ? gameService.makeGuess(gameId, request.getWord(), currentUser)
+                : guessReplayCache.getOrMake(currentUser.getId(), gameId, idempotencyKey, request.getWord(),
+                        () -> gameService.makeGuess(gameId, request.getWord(), currentUser));
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Endpoint for an authenticated user to get a suggested next guess for an ongoing game.
+     * A hint does not use an attempt.
+     *
+     * @param currentUser The authenticated User object.
+     * @param gameId The ID of the game, extracted from the URL path.
+     * @return A ResponseEntity containing the suggested word, how many words are still possible
+     *         and the expected information gain of the suggestion.
+     */
+    @GetMapping("/{gameId}/hint")
+    public ResponseEntity<HintResponse> getHint(
+            @AuthenticationPrincipal User currentUser,
+            @PathVariable Long gameId) {
+
+        return ResponseEntity.ok(gameService.suggestHint(gameId, currentUser));
+    }
+
+    /**
+     * Endpoint to list the finished games of the current user, newest first, one page at a time.
+     *
+     * @param currentUser The authenticated user.
+     * @param cursor The {@code nextCursor} of the previous page; omitted for the first page.
+     * @param size The page size (20 by default, at most 100).
+     * @return A ResponseEntity with the games of the page (word, topic, status, attempts, duration)
+     *         and the cursor of the next page, null on the last one.
+     */
+    @GetMapping("/history")
+    public ResponseEntity<GameHistoryResponse> getHistory(
+            @AuthenticationPrincipal User currentUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(gameHistoryService.getHistory(currentUser, cursor, size));
+    }
+
     /**
      * Endpoint to check for and retrieve the state of an active game for the current user.
      *
@@ -0,0 +1,75 @@
+package com.codewordle.codewordle.controller;
+
+import com.codewordle.codewordle.dto.CreateMatchRequest;
+import com.codewordle.codewordle.dto.MatchStateResponse;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.service.MatchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller for versus matches: players race on the same word and follow each other live.
+ * Guesses are made on each player's own game through {@code /api/games/{gameId}/guess}.
+ */
+@RestController
+@RequestMapping("/api/matches")
+@RequiredArgsConstructor
+public class MatchController {
+
+    private final MatchService matchService;
+
+    /**
+     * Creates a match on a random word of a topic and starts the creator's game.
+     *
+     * @param currentUser The authenticated user.
+     * @param request The request body containing the topic.
+     * @return the match, with the code other players join with and the creator's game ID.
+     */
+    @PostMapping
+    public ResponseEntity<MatchStateResponse> createMatch(@AuthenticationPrincipal User currentUser,
+                                                          @Valid @RequestBody CreateMatchRequest request) {
+        return ResponseEntity.ok(matchService.createMatch(currentUser, request.getTopic()));
+    }
+
+    /**
+     * Joins a match that has not started yet and starts the player's game on its word.
+     *
+     * @param currentUser The authenticated user.
+     * @param matchId The match code.
+     * @return the match, with the player's game ID.
+     */
+    @PostMapping("/{matchId}/join")
+    public ResponseEntity<MatchStateResponse> joinMatch(@AuthenticationPrincipal User currentUser,
+                                                        @PathVariable String matchId) {
+        return ResponseEntity.ok(matchService.joinMatch(matchId, currentUser));
+    }
+
+    /**
+     * @param currentUser A player of the match.
+     * @param matchId The match code.
+     * @return the players of the match and the colors of their guesses.
+     */
+    @GetMapping("/{matchId}")
+    public ResponseEntity<MatchStateResponse> getMatch(@AuthenticationPrincipal User currentUser,
+                                                       @PathVariable String matchId) {
+        return ResponseEntity.ok(matchService.getMatch(matchId, currentUser));
+    }
+
+    /**
+     * Streams the progress of a match as Server-Sent Events: a {@code snapshot} event with the whole
+     * state, then {@code player-joined} and {@code progress} events as they happen.
+     *
+     * @param currentUser A player of the match.
+     * @param matchId The match code.
+     * @return the event stream.
+     */
+    @GetMapping(value = "/{matchId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMatch(@AuthenticationPrincipal User currentUser, @PathVariable String matchId) {
+        return matchService.subscribe(matchId, currentUser);
+    }
+}
@@ -0,0 +1,63 @@
+package com.codewordle.codewordle.controller;
+
+import com.codewordle.codewordle.dto.LeaderboardEntryResponse;
+import com.codewordle.codewordle.dto.StatsResponse;
+import com.codewordle.codewordle.dto.UserStatsResponse;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.service.StatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for player and topic statistics and leaderboards.
+ * All responses are served from memory by the {@link StatsService}.
+ */
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final StatsService statsService;
+
+    /**
+     * @param currentUser The authenticated user.
+     * @return the statistics of the current user, or 204 No Content if they have not finished a game yet.
+     */
+    @GetMapping("/me")
+    public ResponseEntity<UserStatsResponse> getMyStats(@AuthenticationPrincipal User currentUser) {
+        return statsService.getUserStats(currentUser.getId())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.noContent().build());
+    }
+
+    /**
+     * @param userId The player.
+     * @return the statistics of the player, or 404 if they have not finished a game.
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<UserStatsResponse> getUserStats(@PathVariable int userId) {
+        return ResponseEntity.of(statsService.getUserStats(userId));
+    }
+
+    /**
+     * @param topic The topic.
+     * @return the statistics of every finished game of the topic, or 404 if there are none.
+     */
+    @GetMapping("/topics/{topic}")
+    public ResponseEntity<StatsResponse> getTopicStats(@PathVariable String topic) {
+        return ResponseEntity.of(statsService.getTopicStats(topic));
+    }
+
+    /**
+     * @param topic Optional topic; without it the leaderboard covers all topics.
+     * @return the best players, best first.
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryResponse>> getLeaderboard(@RequestParam(required = false) String topic) {
+        return ResponseEntity.ok(topic == null ? statsService.getLeaderboard() : statsService.getLeaderboard(topic));
+    }
+}
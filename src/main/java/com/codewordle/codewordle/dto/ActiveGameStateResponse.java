@@ -16,4 +16,5 @@ public class ActiveGameStateResponse {
     private int wordLength;
     private int maxAttempts;
     private List<List<LetterFeedback>> previousGuesses; // Una lista de intentos, donde cada intento es una lista de letras
+    private int remainingCandidates; // Palabras del tema que siguen siendo posibles
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.codewordle.codewordle.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object for the request to create a versus match.
+ */
+@Getter
+@Setter
+public class CreateMatchRequest {
+
+    /**
+     * The topic of the word all the players of the match race on.
+     */
+    @NotBlank(message = "Topic cannot be blank")
+    private String topic;
+}
@@ -0,0 +1,33 @@
+package com.codewordle.codewordle.dto;
+
+import com.codewordle.codewordle.model.GameStatus;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one finished game in a player's history.
+ * Built directly by the history query, so no Game, Word or Guess entity is loaded.
+ */
+@Getter
+public class GameHistoryEntry {
+    private final Long gameId;
+    private final String word;
+    private final String topic;
+    private final GameStatus status;
+    private final int attempts;
+    private final LocalDateTime endTime;
+    private final long durationSeconds;
+
+    public GameHistoryEntry(Long gameId, String word, String topic, GameStatus status, int attempts,
+                            LocalDateTime startTime, LocalDateTime endTime) {
+        this.gameId = gameId;
+        this.word = word;
+        this.topic = topic;
+        this.status = status;
+        this.attempts = attempts;
+        this.endTime = endTime;
+        this.durationSeconds = Duration.between(startTime, endTime).toSeconds();
+    }
+}
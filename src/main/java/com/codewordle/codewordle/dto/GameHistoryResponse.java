@@ -0,0 +1,17 @@
+package com.codewordle.codewordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * DTO with one page of a player's game history, newest first.
+ */
+@Getter
+@AllArgsConstructor
+public class GameHistoryResponse {
+    private List<GameHistoryEntry> games;
+    /** Opaque cursor of the next page, or null on the last page. */
+    private String nextCursor;
+}
@@ -9,11 +9,15 @@ public class GuessResult {
     private final List<LetterFeedback> feedback;
     private final int remainingAttempts;
     private final String correctWord;
+    /** How many words of the topic are still consistent with every guess of the game. */
+    private final int remainingCandidates;
 
-    public GuessResult(GameStatus gameStatus, List<LetterFeedback> feedback, int remainingAttempts, String correctWord) {
+    public GuessResult(GameStatus gameStatus, List<LetterFeedback> feedback, int remainingAttempts, String correctWord,
+                       int remainingCandidates) {
         this.gameStatus = gameStatus;
         this.feedback = feedback;
         this.remainingAttempts = remainingAttempts;
         this.correctWord = (gameStatus == GameStatus.WON || gameStatus == GameStatus.LOST) ? correctWord : null;
+        this.remainingCandidates = remainingCandidates;
     }
 }
\ No newline at end of file
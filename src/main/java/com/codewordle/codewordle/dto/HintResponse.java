@@ -0,0 +1,19 @@
+package com.codewordle.codewordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO with the suggested next guess of a game in progress.
+ */
+@Getter
+@AllArgsConstructor
+public class HintResponse {
+    private Long gameId;
+    /** The suggested guess, or null if no word of the topic matches the previous feedback. */
+    private String suggestion;
+    /** How many words of the topic are still consistent with the previous guesses. */
+    private int remainingCandidates;
+    /** Expected information gain of the suggestion, in bits. */
+    private double expectedInformationBits;
+}
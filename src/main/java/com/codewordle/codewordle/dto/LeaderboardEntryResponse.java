@@ -0,0 +1,20 @@
+package com.codewordle.codewordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO for one row of a leaderboard.
+ */
+@Getter
+@AllArgsConstructor
+public class LeaderboardEntryResponse {
+    private int rank;
+    private int userId;
+    private String name;
+    private int won;
+    private int played;
+    private double winRate;
+    private int maxStreak;
+    private double averageAttempts;
+}
@@ -0,0 +1,21 @@
+package com.codewordle.codewordle.dto;
+
+import com.codewordle.codewordle.model.FeedbackStatus;
+import com.codewordle.codewordle.model.GameStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * DTO with the progress of one player of a versus match: the colors of each guess, never its letters.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchPlayerResponse {
+    private int playerId;
+    private String name;
+    /** One row per guess, one status per letter. */
+    private List<List<FeedbackStatus>> rows;
+    private GameStatus status;
+}
@@ -0,0 +1,25 @@
+package com.codewordle.codewordle.dto;
+
+import com.codewordle.codewordle.model.FeedbackStatus;
+import com.codewordle.codewordle.model.GameStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Server-Sent Event pushed to the players of a versus match for every guess made in it.
+ * It carries the colors of the guess, never its letters.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchProgressEvent {
+    private int playerId;
+    private String name;
+    /** The number of guesses of the player, this one included. */
+    private int attempt;
+    private List<FeedbackStatus> colors;
+    private GameStatus status;
+    /** The name of the first player who found the word, or null. */
+    private String winner;
+}
@@ -0,0 +1,24 @@
+package com.codewordle.codewordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * DTO with the state of a versus match, as seen by one of its players.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchStateResponse {
+    /** The code other players use to join the match. */
+    private String matchId;
+    private String topic;
+    private int wordLength;
+    private int maxAttempts;
+    /** The game of the player this state was built for: guesses go to {@code /api/games/{gameId}/guess}. */
+    private Long gameId;
+    private List<MatchPlayerResponse> players;
+    /** The name of the first player who found the word, or null. */
+    private String winner;
+}
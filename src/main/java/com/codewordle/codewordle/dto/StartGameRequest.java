@@ -18,4 +18,9 @@ public class StartGameRequest {
      */
     @NotBlank(message = "Topic cannot be blank")
     private String topic;
+
+    /**
+     * Whether to play today's daily word of the topic instead of a random one.
+     */
+    private boolean daily;
 }
\ No newline at end of file
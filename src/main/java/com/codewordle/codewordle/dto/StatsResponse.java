@@ -0,0 +1,28 @@
+package com.codewordle.codewordle.dto;
+
+import com.codewordle.codewordle.service.GameStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DTO with the statistics of a player or a topic.
+ */
+@Getter
+@AllArgsConstructor
+public class StatsResponse {
+    private int played;
+    private int won;
+    private double winRate;
+    private int currentStreak;
+    private int maxStreak;
+    private double averageAttempts;
+    private List<Integer> guessDistribution; // Wins by number of guesses: index 0 = solved with the first guess
+
+    public static StatsResponse from(GameStats stats) {
+        return new StatsResponse(stats.played(), stats.won(), stats.winRate(), stats.currentStreak(),
+                stats.maxStreak(), stats.averageAttempts(), Arrays.stream(stats.distribution()).boxed().toList());
+    }
+}
@@ -0,0 +1,18 @@
+package com.codewordle.codewordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * DTO with the statistics of a player, overall and per topic.
+ */
+@Getter
+@AllArgsConstructor
+public class UserStatsResponse {
+    private int userId;
+    private String name;
+    private StatsResponse overall;
+    private Map<String, StatsResponse> byTopic;
+}
@@ -0,0 +1,20 @@
+package com.codewordle.codewordle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO with the outcome of a bulk word import.
+ */
+@Getter
+@AllArgsConstructor
+public class WordImportResponse {
+    private long linesRead;
+    private long imported;
+    /** Words that already existed in their topic, in the database or earlier in the input. */
+    private long duplicates;
+    /** Lines without a word or topic, with a word longer than a game supports, or malformed. */
+    private long rejected;
+    private long elapsedMillis;
+    private double wordsPerSecond;
+}
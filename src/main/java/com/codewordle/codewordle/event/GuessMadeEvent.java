@@ -0,0 +1,30 @@
+package com.codewordle.codewordle.event;
+
+import com.codewordle.codewordle.model.GameStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published by the game service for every accepted guess.
+ * Listeners that only care about finished games check {@link #isFinished()}.
+ *
+ * @param gameId The game the guess belongs to.
+ * @param userId The player.
+ * @param userName The display name of the player.
+ * @param topic The topic of the game's target word.
+ * @param guess The normalized guess.
+ * @param feedback The packed feedback of the guess (see {@code FeedbackEngine}).
+ * @param attempts The number of guesses made so far, including this one.
+ * @param status The status of the game after this guess.
+ * @param timestamp When the guess was made.
+ */
+public record GuessMadeEvent(long gameId, int userId, String userName, String topic, String guess, long feedback,
+                             int attempts, GameStatus status, LocalDateTime timestamp) {
+
+    /**
+     * @return true if this guess won or lost the game.
+     */
+    public boolean isFinished() {
+        return status != GameStatus.IN_PROGRESS;
+    }
+}
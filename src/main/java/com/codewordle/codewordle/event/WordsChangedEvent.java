@@ -0,0 +1,10 @@
+package com.codewordle.codewordle.event;
+
+/**
+ * Application event published whenever rows are added to (or removed from) the words table.
+ * In-memory word structures listen for it and rebuild themselves once the change is committed.
+ *
+ * @param source A short description of what changed the words (e.g. "import").
+ */
+public record WordsChangedEvent(String source) {
+}
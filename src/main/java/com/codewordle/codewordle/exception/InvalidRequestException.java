@@ -0,0 +1,16 @@
+package com.codewordle.codewordle.exception;
+
+/**
+ * Thrown when the client sent input the application cannot use, such as a malformed history cursor.
+ * Translated to a 400 response.
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.codewordle.codewordle.exception;
+
+/**
+ * Thrown when a bounded resource is saturated and the request should be retried later.
+ * Translated to a 503 response with a Retry-After header.
+ */
+public class ServiceBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
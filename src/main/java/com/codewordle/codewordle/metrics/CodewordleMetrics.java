@@ -0,0 +1,157 @@
+package com.codewordle.codewordle.metrics;
+
+import com.codewordle.codewordle.model.GameStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application metrics for the game and authentication hot paths ({@code codewordle.metrics.enabled}).
+ * <p>
+ * Callers take a start time with {@link #start()} and hand it back to the matching {@code record...}
+ * method. Tags are limited to fixed outcome values, topics (which come from the words table) and
+ * URI patterns, so the number of time series stays small.
+ * <p>
+ * When disabled, {@link #start()} does not read the clock and every method returns immediately,
+ * so the instrumented code pays for a single field read.
+ */
+@Component
+public class CodewordleMetrics {
+
+    private final boolean enabled;
+    private final MeterRegistry registry;
+
+    private final Timer gameStartSuccess;
+    private final Timer gameStartFailure;
+    private final Timer guessSuccess;
+    private final Timer guessFailure;
+    private final Timer activeGame;
+    private final Timer feedback;
+    private final Timer jwtAuthenticated;
+    private final Timer jwtRejected;
+    private final Timer userLookup;
+    private final Timer loginSuccess;
+    private final Timer loginFailure;
+
+    public CodewordleMetrics(@Value("${codewordle.metrics.enabled:true}") boolean enabled, MeterRegistry registry) {
+        this.enabled = enabled;
+        this.registry = registry;
+        this.gameStartSuccess = timer("codewordle.game.start", "Time to start a new game", "outcome", "success");
+        this.gameStartFailure = timer("codewordle.game.start", "Time to start a new game", "outcome", "failure");
+        this.guessSuccess = timer("codewordle.game.guess", "Time to process a guess", "outcome", "success");
+        this.guessFailure = timer("codewordle.game.guess", "Time to process a guess", "outcome", "failure");
+        this.activeGame = timer("codewordle.game.active", "Time to load the active game of a user");
+        this.feedback = timer("codewordle.feedback", "Time to compute the feedback of a guess");
+        this.jwtAuthenticated = timer("codewordle.jwt.verification", "Time to verify a bearer token", "outcome", "authenticated");
+        this.jwtRejected = timer("codewordle.jwt.verification", "Time to verify a bearer token", "outcome", "rejected");
+        this.userLookup = timer("codewordle.user.lookup", "Time to load a user from the database");
+        this.loginSuccess = timer("codewordle.auth.login", "Time to authenticate a login request", "outcome", "success");
+        this.loginFailure = timer("codewordle.auth.login", "Time to authenticate a login request", "outcome", "failure");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the current time in nanoseconds, or 0 when metrics are disabled.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void recordGameStart(long start, boolean success) {
+        record(success ? gameStartSuccess : gameStartFailure, start);
+    }
+
+    public void recordGuess(long start, boolean success) {
+        record(success ? guessSuccess : guessFailure, start);
+    }
+
+    public void recordActiveGame(long start) {
+        record(activeGame, start);
+    }
+
+    public void recordFeedback(long start) {
+        record(feedback, start);
+    }
+
+    public void recordJwtVerification(long start, boolean authenticated) {
+        record(authenticated ? jwtAuthenticated : jwtRejected, start);
+    }
+
+    public void recordUserLookup(long start) {
+        record(userLookup, start);
+    }
+
+    public void recordLogin(long start, boolean success) {
+        record(success ? loginSuccess : loginFailure, start);
+    }
+
+    /**
+     * Counts a won or lost game.
+     * @param topic The topic of the game's target word.
+     * @param status The final status of the game.
+     */
+    public void gameFinished(String topic, GameStatus status) {
+        if (!enabled) {
+            return;
+        }
+        Counter.builder("codewordle.games.finished")
+                .description("Finished games by topic and result")
+                .tag("topic", topic)
+                .tag("result", status.name().toLowerCase(Locale.ROOT))
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Counts a request rejected by the per-user rate limit.
+     * @param endpoint The limited endpoint group ("guess" or "start").
+     */
+    public void rateLimited(String endpoint) {
+        if (!enabled) {
+            return;
+        }
+        Counter.builder("codewordle.ratelimit.rejected")
+                .description("Requests rejected by the per-user rate limit")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Records the number of SQL statements prepared while serving one request.
+     * @param uri The URI pattern of the handler that served the request.
+     * @param statements The number of statements.
+     */
+    public void recordStatements(String uri, int statements) {
+        if (!enabled) {
+            return;
+        }
+        DistributionSummary.builder("codewordle.db.statements")
+                .description("SQL statements prepared per HTTP request")
+                .tag("uri", uri)
+                .register(registry)
+                .record(statements);
+    }
+
+    private void record(Timer timer, long start) {
+        if (enabled) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
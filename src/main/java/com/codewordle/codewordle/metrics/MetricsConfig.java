@@ -0,0 +1,34 @@
+package com.codewordle.codewordle.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires the per-request SQL statement count. Nothing is registered when metrics are disabled,
+ * so Hibernate runs without a statement inspector.
+ */
+@Configuration
+@ConditionalOnProperty(name = "codewordle.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+    }
+
+    /**
+     * Runs outside the security filter chain, so user lookups during authentication are counted too.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestStatementsFilter> requestStatementsFilter(CodewordleMetrics metrics) {
+        FilterRegistrationBean<RequestStatementsFilter> registration =
+                new FilterRegistrationBean<>(new RequestStatementsFilter(metrics));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,40 @@
+package com.codewordle.codewordle.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request prepared, tagged with the URI pattern of its handler.
+ * Requests that did not reach a handler are not recorded, which keeps the URI tag bounded.
+ */
+@RequiredArgsConstructor
+public class RequestStatementsFilter extends OncePerRequestFilter {
+
+    private final CodewordleMetrics metrics;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        StatementCountingInspector.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = StatementCountingInspector.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                metrics.recordStatements(pattern.toString(), statements);
+            }
+        }
+    }
+}
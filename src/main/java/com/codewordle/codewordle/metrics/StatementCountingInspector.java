@@ -0,0 +1,41 @@
+package com.codewordle.codewordle.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * Counting only happens between {@link #begin()} and {@link #end()}, which
+ * {@link RequestStatementsFilter} calls around each HTTP request; statements prepared by
+ * other threads (e.g. scheduled flushes) are not counted. The SQL itself is returned unchanged.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting on the current thread.
+     */
+    public static void begin() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * Stops counting on the current thread.
+     * @return the number of statements prepared since {@link #begin()}.
+     */
+    public static int end() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+}
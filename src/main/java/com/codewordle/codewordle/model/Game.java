@@ -4,16 +4,24 @@ import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "games")
+@Table(name = "games",
+        indexes = {
+                @Index(name = "idx_games_user_status", columnList = "user_id, status"),
+                @Index(name = "idx_games_user_end_time", columnList = "user_id, end_time DESC, id DESC")
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_games_daily", columnNames = {"user_id", "puzzle_date", "word_id"}))
 @Getter
 @Setter
 @EqualsAndHashCode
 public class Game {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,4 +40,25 @@ public class Game {
     private LocalDateTime startTime;
 
     private LocalDateTime endTime;
+
+    /**
+     * Number of guesses made so far. Kept on the game row so a guess does not need a COUNT query.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * The day of the daily puzzle this game plays, or {@code null} for a game with a random word.
+     */
+    @Column(name = "puzzle_date")
+    private LocalDate puzzleDate;
+
+    /**
+     * Optimistic lock: an update based on a stale copy of the game fails instead of overwriting it.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
 }
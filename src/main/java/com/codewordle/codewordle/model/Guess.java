@@ -6,12 +6,13 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "guesses")
+@Table(name = "guesses", indexes = @Index(name = "idx_guesses_game_timestamp", columnList = "game_id, timestamp, guessed_word"))
 @Getter
 @Setter
 public class Guess {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "guesses_seq")
+    @SequenceGenerator(name = "guesses_seq", sequenceName = "guesses_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -5,12 +5,13 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "words")
+@Table(name = "words", indexes = @Index(name = "idx_words_topic", columnList = "topic"))
 @Getter
 @Setter
 public class Word {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "words_seq")
+    @SequenceGenerator(name = "words_seq", sequenceName = "words_seq", allocationSize = 50)
     private Long id;
     @Column(nullable = false)
     private String text;
@@ -0,0 +1,77 @@
+package com.codewordle.codewordle.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores the word chosen for each topic and day of the daily mode.
+ */
+@Repository
+public class DailyPuzzleRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DailyPuzzleRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param from The first day to include.
+     * @return the puzzles of {@code from} and later days, with the text of their words.
+     */
+    public List<DailyPuzzle> findFrom(LocalDate from) {
+        return jdbcTemplate.query("SELECT d.puzzle_date, d.topic, d.word_id, w.text FROM daily_puzzles d "
+                        + "JOIN words w ON w.id = d.word_id WHERE d.puzzle_date >= ?",
+                (rs, rowNum) -> new DailyPuzzle(rs.getDate(1).toLocalDate(), rs.getString(2), rs.getLong(3),
+                        rs.getString(4)),
+                Date.valueOf(from));
+    }
+
+    /**
+     * @param date The day.
+     * @param topic The topic.
+     * @return the puzzle of the topic on that day, with the text of its word, if one was chosen.
+     */
+    public Optional<DailyPuzzle> find(LocalDate date, String topic) {
+        return jdbcTemplate.query("SELECT d.puzzle_date, d.topic, d.word_id, w.text FROM daily_puzzles d "
+                        + "JOIN words w ON w.id = d.word_id WHERE d.puzzle_date = ? AND d.topic = ?",
+                (rs, rowNum) -> new DailyPuzzle(rs.getDate(1).toLocalDate(), rs.getString(2), rs.getLong(3),
+                        rs.getString(4)),
+                Date.valueOf(date), topic).stream().findFirst();
+    }
+
+    /**
+     * Stores the word of a day unless one was already chosen, so a stored choice is never replaced.
+     * The primary key decides between instances inserting the same day at once: the loser gets false
+     * and must re-read the stored choice.
+     * @param date The day.
+     * @param topic The topic.
+     * @param wordId The chosen word.
+     * @return false if the day already had a word for the topic.
+     */
+    public boolean insertIfAbsent(LocalDate date, String topic, long wordId) {
+        try {
+            return jdbcTemplate.update("INSERT INTO daily_puzzles (puzzle_date, topic, word_id) VALUES (?, ?, ?)",
+                    Date.valueOf(date), topic, wordId) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The word of one topic on one day.
+     *
+     * @param date The day.
+     * @param topic The topic.
+     * @param wordId The database id of the word.
+     * @param text The text of the word.
+     */
+    public record DailyPuzzle(LocalDate date, String topic, long wordId, String text) {
+    }
+}
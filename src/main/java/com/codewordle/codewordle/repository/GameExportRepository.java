@@ -0,0 +1,51 @@
+package com.codewordle.codewordle.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * Reads the games and guesses tables for the analytics export through forward-only JDBC cursors.
+ * <p>
+ * Rows are handed to the callback one at a time and never mapped to entities, so there is no
+ * persistence context to grow; the driver holds at most {@code codewordle.export.fetch-size} rows.
+ * Column labels are the JSON field names of the export. Must run inside a transaction, which some
+ * drivers (PostgreSQL) need to honor the fetch size instead of reading the whole result.
+ */
+@Repository
+public class GameExportRepository {
+
+    private static final String GAMES = "SELECT g.id AS \"id\", g.user_id AS \"userId\", w.topic AS \"topic\", "
+            + "w.text AS \"word\", g.status AS \"status\", g.attempts AS \"attempts\", "
+            + "g.start_time AS \"startTime\", g.end_time AS \"endTime\", g.puzzle_date AS \"puzzleDate\" "
+            + "FROM games g JOIN words w ON w.id = g.word_id ORDER BY g.id";
+
+    private static final String GUESSES = "SELECT id AS \"id\", game_id AS \"gameId\", guessed_word AS \"guess\", "
+            + "timestamp AS \"timestamp\" FROM guesses ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GameExportRepository(DataSource dataSource,
+                                @Value("${codewordle.export.fetch-size:1000}") int fetchSize) {
+        // A template of its own: the fetch size must not apply to the application's other queries.
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * @param handler Called once per game, in id order.
+     */
+    public void streamGames(RowCallbackHandler handler) {
+        jdbcTemplate.query(GAMES, handler);
+    }
+
+    /**
+     * @param handler Called once per guess, in id order.
+     */
+    public void streamGuesses(RowCallbackHandler handler) {
+        jdbcTemplate.query(GUESSES, handler);
+    }
+}
@@ -1,11 +1,106 @@
 package com.codewordle.codewordle.repository;
 
+import com.codewordle.codewordle.dto.GameHistoryEntry;
 import com.codewordle.codewordle.model.*;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface GameRepository extends JpaRepository<Game, Long> {
     Optional<Game> findByUserAndStatus(User user, GameStatus status);
+
+    /**
+     * Loads a game together with its target word in a single statement.
+     * @param id The id of the game.
+     * @return an Optional containing the game with its target word initialized.
+     */
+    @Query("select g from Game g join fetch g.targetWord where g.id = :id")
+    Optional<Game> findWithTargetWordById(@Param("id") Long id);
+
+    /**
+     * Loads every game in the given status together with its target word.
+     * @param status The status to filter by.
+     * @return the matching games with their target words initialized.
+     */
+    @Query("select g from Game g join fetch g.targetWord where g.status = :status")
+    List<Game> findWithTargetWordByStatus(@Param("status") GameStatus status);
+
+    /**
+     * Writes the progress of a game without loading it first. Bumps its version, so a concurrent
+     * update based on the previous state fails.
+     * @return the number of updated rows.
+     */
+    @Modifying
+    @Query("update Game g set g.attempts = :attempts, g.status = :status, g.endTime = :endTime, "
+            + "g.version = g.version + 1 where g.id = :id")
+    int updateProgress(@Param("id") Long id, @Param("attempts") int attempts,
+                       @Param("status") GameStatus status, @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Streams the games that finished at or after the given time, oldest first.
+     * Must be consumed inside a transaction.
+     * @param since The earliest end time to include.
+     * @param inProgress The status to exclude, {@link GameStatus#IN_PROGRESS}.
+     * @return the finished games as projections.
+     */
+    @Query("select g.id as id, u.id as userId, u.name as userName, w.topic as topic, g.status as status, "
+            + "g.attempts as attempts, g.endTime as endTime "
+            + "from Game g join g.user u join g.targetWord w "
+            + "where g.status <> :inProgress and g.endTime >= :since order by g.endTime, g.id")
+    Stream<FinishedGame> streamFinishedSince(@Param("since") LocalDateTime since,
+                                             @Param("inProgress") GameStatus inProgress);
+
+    /**
+     * First page of a player's finished games, newest first. Ordering by the (constant) user id too
+     * makes the order match {@code idx_games_user_end_time}, so H2 reads the index in order and stops
+     * at the limit instead of sorting all of the player's games.
+     * @param userId The player.
+     * @param limit The page size.
+     * @return the games as DTO projections.
+     */
+    @Query("select new com.codewordle.codewordle.dto.GameHistoryEntry("
+            + "g.id, w.text, w.topic, g.status, g.attempts, g.startTime, g.endTime) "
+            + "from Game g join g.targetWord w "
+            + "where g.user.id = :userId and g.endTime is not null "
+            + "order by g.user.id, g.endTime desc, g.id desc")
+    List<GameHistoryEntry> findHistory(@Param("userId") Integer userId, Limit limit);
+
+    /**
+     * Next page of a player's finished games: the ones that sort after the cursor (endTime, id).
+     * The redundant {@code endTime <= :endTime} bound lets the database seek straight to the cursor.
+     * @param userId The player.
+     * @param endTime The end time of the last game of the previous page.
+     * @param id The id of the last game of the previous page.
+     * @param limit The page size.
+     * @return the games as DTO projections.
+     */
+    @Query("select new com.codewordle.codewordle.dto.GameHistoryEntry("
+            + "g.id, w.text, w.topic, g.status, g.attempts, g.startTime, g.endTime) "
+            + "from Game g join g.targetWord w "
+            + "where g.user.id = :userId and g.endTime <= :endTime "
+            + "and (g.endTime < :endTime or g.id < :id) "
+            + "order by g.user.id, g.endTime desc, g.id desc")
+    List<GameHistoryEntry> findHistoryBefore(@Param("userId") Integer userId, @Param("endTime") LocalDateTime endTime,
+                                             @Param("id") Long id, Limit limit);
+
+    /**
+     * Closed projection of a finished game, used to rebuild the statistics.
+     */
+    interface FinishedGame {
+        Long getId();
+        Integer getUserId();
+        String getUserName();
+        String getTopic();
+        GameStatus getStatus();
+        Integer getAttempts();
+        LocalDateTime getEndTime();
+    }
 }
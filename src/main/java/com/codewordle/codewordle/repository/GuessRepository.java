@@ -1,6 +1,7 @@
 package com.codewordle.codewordle.repository;
 
 import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.GameStatus;
 import com.codewordle.codewordle.model.Guess;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -10,4 +11,5 @@ import java.util.List;
 public interface GuessRepository extends JpaRepository<Guess, Long> {
     int countByGame(Game game);
     List<Guess> findByGameOrderByTimestampAsc(Game game);
+    List<Guess> findByGameStatusOrderByTimestampAsc(GameStatus status);
 }
\ No newline at end of file
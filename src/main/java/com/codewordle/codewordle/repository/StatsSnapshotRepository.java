@@ -0,0 +1,41 @@
+package com.codewordle.codewordle.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Stores the serialized statistics snapshot. Only the latest snapshot is kept.
+ */
+@Repository
+public class StatsSnapshotRepository {
+
+    private static final int SNAPSHOT_ID = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StatsSnapshotRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return the payload of the latest snapshot, if one was saved.
+     */
+    public Optional<String> findLatest() {
+        return jdbcTemplate.query("SELECT payload FROM stats_snapshots WHERE id = ?",
+                rs -> rs.next() ? Optional.of(rs.getString(1)) : Optional.empty(), SNAPSHOT_ID);
+    }
+
+    /**
+     * Replaces the stored snapshot.
+     * @param takenAt When the snapshot was taken.
+     * @param payload The serialized snapshot.
+     */
+    public void save(LocalDateTime takenAt, String payload) {
+        jdbcTemplate.update("MERGE INTO stats_snapshots (id, taken_at, payload) KEY (id) VALUES (?, ?, ?)",
+                SNAPSHOT_ID, Timestamp.valueOf(takenAt), payload);
+    }
+}
@@ -1,11 +1,62 @@
 package com.codewordle.codewordle.repository;
 
 import com.codewordle.codewordle.model.Word;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface WordRepository extends JpaRepository<Word, Long> {
     List<Word> findByTopic(String topic);
-}
\ No newline at end of file
+
+    /**
+     * Streams every word as a lightweight projection (no managed entities), ordered by topic and id.
+     * Used to generate the word pack; must be consumed inside a transaction and closed.
+     * @return all words, grouped by topic.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<WordSummary> streamAllByOrderByTopicAscIdAsc();
+
+    /**
+     * @return the highest word id, empty if there are no words.
+     */
+    @Query("SELECT MAX(w.id) FROM Word w")
+    Optional<Long> findMaxId();
+
+    /**
+     * Finds the words of an import batch that already exist, with one index lookup per text
+     * ({@code idx_words_text_topic}). Imports store texts in uppercase, so texts match exactly.
+     * @param topics The topics of the batch.
+     * @param texts The uppercase texts of the batch.
+     * @return the existing words with one of the texts in one of the topics; the caller matches the pairs.
+     */
+    @Query("SELECT w.topic AS topic, w.text AS text FROM Word w WHERE w.text IN :texts AND w.topic IN :topics")
+    List<WordKey> findExisting(@Param("topics") Collection<String> topics, @Param("texts") Collection<String> texts);
+
+    /**
+     * Closed projection of a word's topic and text.
+     */
+    interface WordKey {
+        String getTopic();
+        String getText();
+    }
+
+    /**
+     * DTO projection over the words table: only these columns are selected, and rows are
+     * built through the constructor rather than as proxies, which matters for large word lists.
+     *
+     * @param id The id of the word.
+     * @param text The text of the word.
+     * @param topic The topic of the word.
+     */
+    record WordSummary(Long id, String text, String topic) {
+    }
+}
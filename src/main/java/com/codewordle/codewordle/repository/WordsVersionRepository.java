@@ -0,0 +1,35 @@
+package com.codewordle.codewordle.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Version of the words table contents: every write to the words table must call {@link #increment()}
+ * in the same transaction, so derived data such as the word pack can tell whether it is out of date.
+ */
+@Repository
+public class WordsVersionRepository {
+
+    private static final int VERSION_ID = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WordsVersionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return the current version of the words table.
+     */
+    public long current() {
+        Long version = jdbcTemplate.queryForObject("SELECT version FROM words_version WHERE id = ?", Long.class, VERSION_ID);
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * Records that the words table changed.
+     */
+    public void increment() {
+        jdbcTemplate.update("UPDATE words_version SET version = version + 1 WHERE id = ?", VERSION_ID);
+    }
+}
@@ -0,0 +1,355 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.model.Guess;
+import com.codewordle.codewordle.repository.GameRepository;
+import com.codewordle.codewordle.repository.GuessRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * Optional write-behind store for games in progress ({@code codewordle.games.write-behind.enabled}).
+ * <p>
+ * While enabled, every in-progress game lives in memory with its target word and guesses, and
+ * {@link GameService} serves guesses and the active game state from here. Each guess is queued
+ * and flushed to the database in batches by a scheduled task, so a guess no longer waits for a commit.
+ * Finished games stay in memory until their final state has been flushed; after that the database
+ * is authoritative again.
+ * <p>
+ * The queue is flushed on shutdown, and in-progress games are reloaded from the database at
+ * startup, so after a crash only the guesses of the last flush interval are lost. A guess the
+ * database rejects is logged to the {@code ActiveGameStore.dead-letters} logger and dropped; the
+ * queue length is exported as {@code codewordle.games.write-behind.backlog}.
+ */
+@Service
+public class ActiveGameStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ActiveGameStore.class);
+    /** Guesses that could not be written, to be replayed or investigated by hand. */
+    private static final Logger deadLetterLog = LoggerFactory.getLogger(ActiveGameStore.class.getName() + ".dead-letters");
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final GameRepository gameRepository;
+    private final GuessRepository guessRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter deadLetters;
+
+    private final Map<Long, ActiveGame> gamesById = new ConcurrentHashMap<>();
+    private final Map<Integer, ActiveGame> gamesByUserId = new ConcurrentHashMap<>();
+    private final BlockingDeque<PendingGuess> pendingGuesses = new LinkedBlockingDeque<>();
+    private final Object flushLock = new Object();
+
+    public ActiveGameStore(@Value("${codewordle.games.write-behind.enabled:false}") boolean enabled,
+                           @Value("${codewordle.games.write-behind.batch-size:500}") int batchSize,
+                           GameRepository gameRepository,
+                           GuessRepository guessRepository,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.gameRepository = gameRepository;
+        this.guessRepository = guessRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deadLetters = Counter.builder("codewordle.games.write-behind.dead-letters")
+                .description("Queued guesses dropped because the database rejected them")
+                .register(meterRegistry);
+        meterRegistry.gauge("codewordle.games.write-behind.backlog", pendingGuesses, BlockingDeque::size);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Crash recovery: reloads every in-progress game and its guesses from the database.
+     */
+    @PostConstruct
+    void rehydrate() {
+        if (!enabled) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, List<String>> guessesByGame = new HashMap<>();
+            for (Guess guess : guessRepository.findByGameStatusOrderByTimestampAsc(GameStatus.IN_PROGRESS)) {
+                guessesByGame.computeIfAbsent(guess.getGame().getId(), id -> new ArrayList<>()).add(guess.getGuessedWord());
+            }
+            for (Game game : gameRepository.findWithTargetWordByStatus(GameStatus.IN_PROGRESS)) {
+                track(toActiveGame(game, guessesByGame.getOrDefault(game.getId(), List.of())));
+            }
+        });
+        log.info("Active game store rehydrated {} games in progress", gamesById.size());
+    }
+
+    /**
+     * Starts tracking a newly created game. Inside a transaction, tracking begins after commit.
+     * @param game The persisted game.
+     * @param targetWord The uppercase target word of the game.
+     * @param topic The topic of the target word.
+     */
+    public void register(Game game, String targetWord, String topic) {
+        ActiveGame activeGame = new ActiveGame(game.getId(), game.getUser().getId(), targetWord, topic,
+                game.getPuzzleDate(), List.of());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    track(activeGame);
+                }
+            });
+        } else {
+            track(activeGame);
+        }
+    }
+
+    /**
+     * Looks up a game, loading it from the database if it is in progress but not tracked yet.
+     * @param gameId The id of the game.
+     * @return the tracked game, or an empty Optional if the game does not exist or is finished and flushed.
+     */
+    public Optional<ActiveGame> find(long gameId) {
+        ActiveGame activeGame = gamesById.get(gameId);
+        if (activeGame != null) {
+            return Optional.of(activeGame);
+        }
+        return transactionTemplate.execute(status -> gameRepository.findWithTargetWordById(gameId)
+                .filter(game -> game.getStatus() == GameStatus.IN_PROGRESS)
+                .map(game -> track(toActiveGame(game, guessRepository.findByGameOrderByTimestampAsc(game).stream()
+                        .map(Guess::getGuessedWord)
+                        .toList()))));
+    }
+
+    /**
+     * @param userId The id of the user.
+     * @return the user's game in progress, if any.
+     */
+    public Optional<ActiveGame> findInProgressByUserId(int userId) {
+        return Optional.ofNullable(gamesByUserId.get(userId));
+    }
+
+    /**
+     * Applies a guess to a tracked game and queues it for the database.
+     * The caller must hold the game's monitor.
+     * @param game The game being played.
+     * @param guess The normalized guess.
+     * @param status The status of the game after this guess.
+     */
+    public void recordGuess(ActiveGame game, String guess, GameStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        game.guesses.add(guess);
+        game.status = status;
+        if (status != GameStatus.IN_PROGRESS) {
+            gamesByUserId.remove(game.userId, game);
+        }
+        pendingGuesses.add(new PendingGuess(game.gameId, guess, now, game.guesses.size(), status,
+                status == GameStatus.IN_PROGRESS ? null : now));
+    }
+
+    /**
+     * Writes the queued guesses in batches, one transaction per batch.
+     * A failed batch is retried one guess per transaction, see {@link #writeOneByOne(List)}.
+     */
+    @Scheduled(fixedDelayString = "${codewordle.games.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (flushLock) {
+            List<PendingGuess> batch = new ArrayList<>(batchSize);
+            while (pendingGuesses.drainTo(batch, batchSize) > 0) {
+                try {
+                    write(batch);
+                } catch (RuntimeException e) {
+                    log.warn("Write-behind flush of {} guesses failed, retrying them one by one", batch.size(), e);
+                    if (!writeOneByOne(batch)) {
+                        return;
+                    }
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Isolates the guesses that broke a batch. A guess the database rejects for good goes to the
+     * dead-letter log instead of blocking the queue. If the database is unreachable, the guesses
+     * left are put back at the head of the queue for the next run.
+     * @return false if the flush must stop.
+     */
+    private boolean writeOneByOne(List<PendingGuess> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingGuess pending = batch.get(i);
+            try {
+                write(List.of(pending));
+            } catch (RuntimeException e) {
+                if (!isPermanent(e)) {
+                    log.error("Write-behind flush failed, {} guesses will be retried", batch.size() - i, e);
+                    for (int j = batch.size() - 1; j >= i; j--) {
+                        pendingGuesses.addFirst(batch.get(j));
+                    }
+                    return false;
+                }
+                deadLetter(pending, e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether retrying the same write can never succeed, such as a constraint violation.
+     */
+    private static boolean isPermanent(RuntimeException e) {
+        return e instanceof NonTransientDataAccessException && !(e instanceof DataAccessResourceFailureException);
+    }
+
+    private void deadLetter(PendingGuess pending, RuntimeException e) {
+        deadLetters.increment();
+        deadLetterLog.error("Dropped guess {} of game {} (attempt {}, status {}, at {}): {}", pending.guess(),
+                pending.gameId(), pending.attempts(), pending.status(), pending.timestamp(), e.toString());
+        if (pending.status() != GameStatus.IN_PROGRESS) {
+            // Nothing more will be written for the game: the database is authoritative again.
+            gamesById.remove(pending.gameId());
+        }
+    }
+
+    /**
+     * Graceful shutdown: nothing queued is left behind.
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+        if (!pendingGuesses.isEmpty()) {
+            log.warn("{} guesses could not be flushed before shutdown", pendingGuesses.size());
+        }
+    }
+
+    private void write(List<PendingGuess> batch) {
+        // Only the latest progress of each game needs to be written.
+        Map<Long, PendingGuess> latestByGame = new LinkedHashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Guess> guesses = new ArrayList<>(batch.size());
+            for (PendingGuess pending : batch) {
+                Guess guess = new Guess();
+                guess.setGame(gameRepository.getReferenceById(pending.gameId()));
+                guess.setGuessedWord(pending.guess());
+                guess.setTimestamp(pending.timestamp());
+                guesses.add(guess);
+                latestByGame.put(pending.gameId(), pending);
+            }
+            guessRepository.saveAll(guesses);
+            for (PendingGuess latest : latestByGame.values()) {
+                gameRepository.updateProgress(latest.gameId(), latest.attempts(), latest.status(), latest.endTime());
+            }
+        });
+        for (PendingGuess latest : latestByGame.values()) {
+            if (latest.status() != GameStatus.IN_PROGRESS) {
+                gamesById.remove(latest.gameId());
+            }
+        }
+    }
+
+    private ActiveGame track(ActiveGame activeGame) {
+        ActiveGame tracked = gamesById.putIfAbsent(activeGame.gameId, activeGame);
+        if (tracked == null) {
+            tracked = activeGame;
+        }
+        if (tracked.status == GameStatus.IN_PROGRESS) {
+            gamesByUserId.putIfAbsent(tracked.userId, tracked);
+        }
+        return tracked;
+    }
+
+    private static ActiveGame toActiveGame(Game game, List<String> guesses) {
+        return new ActiveGame(game.getId(), game.getUser().getId(), game.getTargetWord().getText(),
+                game.getTargetWord().getTopic(), game.getPuzzleDate(), guesses);
+    }
+
+    /**
+     * In-memory state of a game. Reads and updates must hold the instance's monitor.
+     */
+    public static final class ActiveGame {
+        private final long gameId;
+        private final int userId;
+        private final String targetWord;
+        private final String topic;
+        private final LocalDate puzzleDate;
+        private final List<String> guesses;
+        private GameStatus status = GameStatus.IN_PROGRESS;
+
+        private ActiveGame(long gameId, int userId, String targetWord, String topic, LocalDate puzzleDate,
+                           List<String> guesses) {
+            this.gameId = gameId;
+            this.userId = userId;
+            this.targetWord = targetWord;
+            this.topic = topic;
+            this.puzzleDate = puzzleDate;
+            this.guesses = new ArrayList<>(guesses);
+        }
+
+        public long getGameId() {
+            return gameId;
+        }
+
+        public int getUserId() {
+            return userId;
+        }
+
+        public String getTargetWord() {
+            return targetWord;
+        }
+
+        public String getTopic() {
+            return topic;
+        }
+
+        /**
+         * @return the day of the daily puzzle, or {@code null} for a game with a random word.
+         */
+        public LocalDate getPuzzleDate() {
+            return puzzleDate;
+        }
+
+        public List<String> getGuesses() {
+            return Collections.unmodifiableList(guesses);
+        }
+
+        public int getAttempts() {
+            return guesses.size();
+        }
+
+        public GameStatus getStatus() {
+            return status;
+        }
+    }
+
+    private record PendingGuess(long gameId, String guess, LocalDateTime timestamp, int attempts,
+                                GameStatus status, LocalDateTime endTime) {
+    }
+}
@@ -10,4 +10,11 @@ public interface AuthService {
 
     public UserResponse Register(UserCreateRequest newUser);
     public LoginResponse Login(LoginRequest request);
+
+    /**
+     * Logs the user out of every device: tokens are stateless, so all the tokens issued to the user
+     * until now stop being accepted.
+     * @param user The authenticated user.
+     */
+    public void Logout(User user);
 }
@@ -0,0 +1,161 @@
+package com.codewordle.codewordle.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Counts the words of a game's topic that are still possible targets after its guesses.
+ * <p>
+ * Each game keeps a bitset over the topic's word list (positions in the {@link WordIndex}). The
+ * words consistent with one guess and its feedback are a mask, built once in a pass over the topic
+ * and memoized per (topic, guess, feedback), so a guess updates the game with one bitset
+ * intersection. The masks of common openers are shared by every game of the topic.
+ * <p>
+ * Game bitsets live in a bounded cache ({@code codewordle.candidates.max-games}). A game that was
+ * evicted, or whose topic words changed, is rebuilt from its guesses.
+ */
+@Service
+public class CandidateCounter {
+
+    private final WordIndex wordIndex;
+    private final Cache<MaskKey, long[]> masks;
+    private final Cache<Long, GameCandidates> games;
+
+    public CandidateCounter(@Value("${codewordle.candidates.mask-cache-bytes:67108864}") long maskCacheBytes,
+                            @Value("${codewordle.candidates.max-games:100000}") long maxGames,
+                            WordIndex wordIndex) {
+        this.wordIndex = wordIndex;
+        this.masks = Caffeine.newBuilder()
+                .maximumWeight(maskCacheBytes)
+                .weigher((MaskKey key, long[] mask) -> 64 + mask.length * Long.BYTES)
+                .build();
+        this.games = Caffeine.newBuilder()
+                .maximumSize(maxGames)
+                .expireAfterAccess(Duration.ofDays(1))
+                .build();
+    }
+
+    /**
+     * Applies a guess to a game.
+     *
+     * @param gameId The game.
+     * @param topic The topic of the game.
+     * @param target The target word, uppercase.
+     * @param guess The guess, uppercase.
+     * @param feedback The packed feedback of the guess.
+     * @param attempts The attempts of the game, this guess included.
+     * @param allGuesses All the guesses of the game in order, this one included. Only called when the
+     *                   game has to be rebuilt.
+     * @return the number of topic words still consistent with every guess.
+     */
+    public int afterGuess(long gameId, String topic, String target, String guess, long feedback, int attempts,
+                          Supplier<List<String>> allGuesses) {
+        int generation = wordIndex.generation();
+        GameCandidates updated = games.asMap().compute(gameId, (id, current) -> {
+            if (current != null && current.generation() == generation && current.guesses() == attempts - 1) {
+                return new GameCandidates(generation, attempts, and(current.bits(), mask(generation, topic, guess, feedback)));
+            }
+            return rebuild(generation, topic, target, attempts == 1 ? List.of(guess) : allGuesses.get());
+        });
+        return updated.count();
+    }
+
+    /**
+     * @param gameId The game.
+     * @param topic The topic of the game.
+     * @param target The target word, uppercase.
+     * @param guesses All the guesses of the game in order.
+     * @return the number of topic words still consistent with every guess.
+     */
+    public int remaining(long gameId, String topic, String target, List<String> guesses) {
+        int generation = wordIndex.generation();
+        GameCandidates current = games.getIfPresent(gameId);
+        if (current == null || current.generation() != generation || current.guesses() != guesses.size()) {
+            current = rebuild(generation, topic, target, guesses);
+            games.put(gameId, current);
+        }
+        return current.count();
+    }
+
+    /**
+     * Drops a game's candidates, for instance after its guess was rolled back. They are rebuilt from
+     * the guesses on the next call.
+     *
+     * @param gameId The game.
+     */
+    public void forget(long gameId) {
+        games.invalidate(gameId);
+    }
+
+    private GameCandidates rebuild(int generation, String topic, String target, List<String> guesses) {
+        long[] bits = null;
+        for (String guess : guesses) {
+            long[] mask = mask(generation, topic, guess, FeedbackEngine.compute(guess, target));
+            bits = bits == null ? mask.clone() : and(bits, mask);
+        }
+        return new GameCandidates(generation, guesses.size(), bits == null ? lengthMask(topic, target.length()) : bits);
+    }
+
+    private long[] mask(int generation, String topic, String guess, long feedback) {
+        return masks.get(new MaskKey(generation, topic, guess, feedback), key -> {
+            WordPack.TopicWords words = wordIndex.wordsOf(topic);
+            int size = words == null ? 0 : words.size();
+            long[] mask = new long[(size + 63) >>> 6];
+            for (int i = 0; i < size; i++) {
+                String word = words.text(i);
+                if (word.length() == guess.length() && FeedbackEngine.compute(guess, word) == feedback) {
+                    mask[i >>> 6] |= 1L << i;
+                }
+            }
+            return mask;
+        });
+    }
+
+    private long[] lengthMask(String topic, int length) {
+        WordPack.TopicWords words = wordIndex.wordsOf(topic);
+        int size = words == null ? 0 : words.size();
+        long[] mask = new long[(size + 63) >>> 6];
+        for (int i = 0; i < size; i++) {
+            if (words.text(i).length() == length) {
+                mask[i >>> 6] |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return a new bitset, the intersection of both. A mask built while the index was being
+     * replaced may be shorter: the missing words are not candidates.
+     */
+    private static long[] and(long[] bits, long[] mask) {
+        long[] result = new long[Math.min(bits.length, mask.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bits[i] & mask[i];
+        }
+        return result;
+    }
+
+    private record MaskKey(int generation, String topic, String guess, long feedback) {
+    }
+
+    /**
+     * @param generation The {@link WordIndex#generation()} the bit positions refer to.
+     * @param guesses How many guesses were applied.
+     * @param bits The candidate words, never modified once built.
+     */
+    private record GameCandidates(int generation, int guesses, long[] bits) {
+        private int count() {
+            int count = 0;
+            for (long word : bits) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+    }
+}
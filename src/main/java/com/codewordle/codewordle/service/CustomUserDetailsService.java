@@ -1,5 +1,6 @@
 package com.codewordle.codewordle.service;
 
+import com.codewordle.codewordle.metrics.CodewordleMetrics;
 import com.codewordle.codewordle.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -16,13 +17,16 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final CodewordleMetrics metrics;
 
     /**
      * Constructs the service with the required UserRepository.
      * @param userRepository The repository for accessing user data.
+     * @param metrics Records the lookup time.
      */
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, CodewordleMetrics metrics) {
         this.userRepository = userRepository;
+        this.metrics = metrics;
     }
 
     /**
@@ -40,7 +44,12 @@ public class CustomUserDetailsService implements UserDetailsService {
         // We use the UserRepository to find the user by their unique email.
         // If the user is not found, we must throw UsernameNotFoundException as per the contract.
         // Spring Security catches this exception and understands it as a failed authentication attempt.
-        return this.userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        long start = metrics.start();
+        try {
+            return this.userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        } finally {
+            metrics.recordUserLookup(start);
+        }
     }
 }
\ No newline at end of file
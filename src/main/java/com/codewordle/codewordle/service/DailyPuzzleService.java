@@ -0,0 +1,174 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.repository.DailyPuzzleRepository;
+import com.codewordle.codewordle.repository.DailyPuzzleRepository.DailyPuzzle;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Daily mode: every player gets the same word per topic per day.
+ * <p>
+ * The word of each topic is chosen deterministically from the day and the topic, for today and the
+ * next {@code days-ahead} days, by a scheduled task. The choices are stored in the database, so a day
+ * keeps its word across restarts and word changes, and kept in memory, so starting a daily game
+ * needs no word query.
+ * <p>
+ * Because every daily game of a topic shares its target, the same guesses (common openers) are
+ * submitted over and over. Their feedback is memoized in a bounded cache keyed by target and
+ * guess, so most daily guesses skip the feedback computation.
+ */
+@Service
+public class DailyPuzzleService {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyPuzzleService.class);
+
+    private final ZoneId zone;
+    private final int daysAhead;
+    private final long seed;
+    private final WordIndex wordIndex;
+    private final DailyPuzzleRepository dailyPuzzleRepository;
+    private final Cache<FeedbackKey, Long> feedbackMemo;
+
+    // Day -> topic -> puzzle, from today on. Replaced as a whole, never modified.
+    private final AtomicReference<Map<LocalDate, Map<String, DailyPuzzle>>> schedule = new AtomicReference<>(Map.of());
+
+    public DailyPuzzleService(@Value("${codewordle.daily.zone:UTC}") String zone,
+                              @Value("${codewordle.daily.days-ahead:1}") int daysAhead,
+                              @Value("${codewordle.daily.seed:0}") long seed,
+                              @Value("${codewordle.daily.feedback-cache-size:10000}") long feedbackCacheSize,
+                              WordIndex wordIndex,
+                              DailyPuzzleRepository dailyPuzzleRepository) {
+        this.zone = ZoneId.of(zone);
+        this.daysAhead = daysAhead;
+        this.seed = seed;
+        this.wordIndex = wordIndex;
+        this.dailyPuzzleRepository = dailyPuzzleRepository;
+        // A day's targets are only played that day, so entries older than a day are dead weight.
+        this.feedbackMemo = Caffeine.newBuilder()
+                .maximumSize(feedbackCacheSize)
+                .expireAfterWrite(Duration.ofDays(1))
+                .build();
+    }
+
+    /**
+     * Chooses the missing words of today and the next days. Runs at startup and then every hour,
+     * so the next day is always ready before midnight.
+     */
+    @PostConstruct
+    @Scheduled(cron = "${codewordle.daily.precompute-cron:0 0 * * * *}", zone = "${codewordle.daily.zone:UTC}")
+    public void precompute() {
+        precompute(today());
+    }
+
+    synchronized void precompute(LocalDate today) {
+        Map<LocalDate, Map<String, DailyPuzzle>> current = schedule.get();
+        int chosen = 0;
+        for (int day = 0; day <= daysAhead; day++) {
+            LocalDate date = today.plusDays(day);
+            Map<String, DailyPuzzle> puzzles = current.getOrDefault(date, Map.of());
+            for (String topic : wordIndex.topicSizes().keySet()) {
+                if (!puzzles.containsKey(topic)) {
+                    Optional<WordIndex.IndexedWord> word = choose(date, topic);
+                    if (word.isPresent() && dailyPuzzleRepository.insertIfAbsent(date, topic, word.get().id())) {
+                        chosen++;
+                    }
+                }
+            }
+        }
+        // Reload instead of using the local choices: another instance may have stored a day first.
+        Map<LocalDate, Map<String, DailyPuzzle>> reloaded = new HashMap<>();
+        for (DailyPuzzle puzzle : dailyPuzzleRepository.findFrom(today)) {
+            reloaded.computeIfAbsent(puzzle.date(), d -> new HashMap<>()).put(puzzle.topic(), normalized(puzzle));
+        }
+        Map<LocalDate, Map<String, DailyPuzzle>> rebuilt = new HashMap<>();
+        reloaded.forEach((date, puzzles) -> rebuilt.put(date, Map.copyOf(puzzles)));
+        schedule.set(Map.copyOf(rebuilt));
+        if (chosen > 0) {
+            log.info("Daily puzzles: {} words chosen for {} to {}", chosen, today, today.plusDays(daysAhead));
+        }
+    }
+
+    /**
+     * Deterministic choice: the same day, topic, words and seed always give the same word.
+     */
+    Optional<WordIndex.IndexedWord> choose(LocalDate date, String topic) {
+        WordPack.TopicWords words = wordIndex.wordsOf(topic);
+        if (words == null || words.size() == 0) {
+            return Optional.empty();
+        }
+        SplittableRandom random = new SplittableRandom(seed ^ (date.toEpochDay() * 31 + topic.hashCode()));
+        int position = random.nextInt(words.size());
+        return Optional.of(new WordIndex.IndexedWord(words.id(position), words.text(position)));
+    }
+
+    /**
+     * @param topic The topic.
+     * @return today's puzzle of the topic, or an empty Optional if the topic has no words.
+     */
+    public Optional<DailyPuzzle> todaysPuzzle(String topic) {
+        LocalDate today = today();
+        DailyPuzzle puzzle = schedule.get().getOrDefault(today, Map.of()).get(topic);
+        if (puzzle != null || wordIndex.topicSize(topic) == 0) {
+            return Optional.ofNullable(puzzle);
+        }
+        // A topic added since the last run, or a day the scheduled task has not reached yet: choose
+        // this topic only, without waiting for a run over all topics.
+        Optional<WordIndex.IndexedWord> word = choose(today, topic);
+        if (word.isEmpty()) {
+            return Optional.empty();
+        }
+        dailyPuzzleRepository.insertIfAbsent(today, topic, word.get().id());
+        // Re-read: another instance may have stored the day first, and its choice wins.
+        Optional<DailyPuzzle> stored = dailyPuzzleRepository.find(today, topic).map(DailyPuzzleService::normalized);
+        stored.ifPresent(this::remember);
+        return stored;
+    }
+
+    private void remember(DailyPuzzle puzzle) {
+        schedule.updateAndGet(current -> {
+            Map<LocalDate, Map<String, DailyPuzzle>> updated = new HashMap<>(current);
+            Map<String, DailyPuzzle> puzzles = new HashMap<>(current.getOrDefault(puzzle.date(), Map.of()));
+            puzzles.put(puzzle.topic(), puzzle);
+            updated.put(puzzle.date(), Map.copyOf(puzzles));
+            return Map.copyOf(updated);
+        });
+    }
+
+    private static DailyPuzzle normalized(DailyPuzzle puzzle) {
+        return new DailyPuzzle(puzzle.date(), puzzle.topic(), puzzle.wordId(), puzzle.text().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Feedback of a guess against a daily target, computed once per target and guess.
+     * Both words must already be normalized to uppercase and have the same length.
+     * @param guess The guessed word.
+     * @param target The target word.
+     * @return the packed feedback, as returned by {@link FeedbackEngine#compute(CharSequence, CharSequence)}.
+     */
+    public long feedback(String guess, String target) {
+        return feedbackMemo.get(new FeedbackKey(target, guess), key -> FeedbackEngine.compute(key.guess(), key.target()));
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    private record FeedbackKey(String target, String guess) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.dto.LetterFeedback;
+import com.codewordle.codewordle.model.FeedbackStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes Wordle feedback for a guess against a target word.
+ * <p>
+ * Feedback is packed into a single {@code long} using 2 bits per position
+ * (position {@code i} lives in bits {@code 2i..2i+1}), so words of up to {@value #MAX_LENGTH}
+ * letters are supported and no per-letter objects are created. {@link LetterFeedback} lists
+ * are only built at the JSON boundary through {@link #toLetterFeedback(String, long)}.
+ * <p>
+ * Duplicate letters follow the classic two-pass rules: exact matches claim their letter first,
+ * then the remaining target letters are handed out left to right as WRONG_POSITION.
+ */
+public final class FeedbackEngine {
+
+    /** The longest word whose feedback fits in a packed {@code long}. */
+    public static final int MAX_LENGTH = Long.SIZE / 2;
+
+    public static final int INCORRECT = 0;
+    public static final int WRONG_POSITION = 1;
+    public static final int CORRECT_POSITION = 2;
+
+    private static final int MASK = 0b11;
+    private static final int ASCII = 128;
+
+    // Per-thread letter counters for the ASCII range. Every call leaves the array zeroed.
+    private static final ThreadLocal<int[]> LETTER_COUNTS = ThreadLocal.withInitial(() -> new int[ASCII]);
+
+    private FeedbackEngine() {
+    }
+
+    /**
+     * Calculates the packed feedback of a guess. Both words must already be normalized to uppercase.
+     *
+     * @param guess The guessed word.
+     * @param target The target word.
+     * @return The feedback, 2 bits per position.
+     * @throws IllegalArgumentException if the words differ in length or are longer than {@value #MAX_LENGTH}.
+     */
+    public static long compute(CharSequence guess, CharSequence target) {
+        int length = target.length();
+        if (guess.length() != length) {
+            throw new IllegalArgumentException("Guess and target must have the same length");
+        }
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Words longer than " + MAX_LENGTH + " letters are not supported");
+        }
+
+        int[] counts = LETTER_COUNTS.get();
+        long packed = 0L;
+
+        // First pass: exact matches, and count the target letters they did not claim.
+        for (int i = 0; i < length; i++) {
+            char t = target.charAt(i);
+            if (guess.charAt(i) == t) {
+                packed |= (long) CORRECT_POSITION << (i << 1);
+            } else if (t < ASCII) {
+                counts[t]++;
+            }
+        }
+
+        // Second pass: hand out the unclaimed letters to the remaining positions, left to right.
+        for (int i = 0; i < length; i++) {
+            if (statusCode(packed, i) == CORRECT_POSITION) {
+                continue;
+            }
+            char g = guess.charAt(i);
+            if (g < ASCII) {
+                if (counts[g] > 0) {
+                    counts[g]--;
+                    packed |= (long) WRONG_POSITION << (i << 1);
+                }
+            } else if (hasUnclaimedLetter(guess, target, i, packed)) {
+                packed |= (long) WRONG_POSITION << (i << 1);
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            char t = target.charAt(i);
+            if (t < ASCII) {
+                counts[t] = 0;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Slow path for letters outside the ASCII range: the letter at {@code position} is available if the
+     * target has more unclaimed occurrences of it than the earlier positions already took.
+     */
+    private static boolean hasUnclaimedLetter(CharSequence guess, CharSequence target, int position, long packed) {
+        char letter = guess.charAt(position);
+        int available = 0;
+        for (int j = 0; j < target.length(); j++) {
+            if (target.charAt(j) == letter && statusCode(packed, j) != CORRECT_POSITION) {
+                available++;
+            }
+        }
+        for (int j = 0; j < position; j++) {
+            if (guess.charAt(j) == letter && statusCode(packed, j) == WRONG_POSITION) {
+                available--;
+            }
+        }
+        return available > 0;
+    }
+
+    /**
+     * @param packed Packed feedback.
+     * @param position Zero-based letter position.
+     * @return The 2-bit status code stored at the position.
+     */
+    public static int statusCode(long packed, int position) {
+        return (int) (packed >>> (position << 1)) & MASK;
+    }
+
+    /**
+     * @param packed Packed feedback.
+     * @param position Zero-based letter position.
+     * @return The status stored at the position.
+     */
+    public static FeedbackStatus status(long packed, int position) {
+        return switch (statusCode(packed, position)) {
+            case CORRECT_POSITION -> FeedbackStatus.CORRECT_POSITION;
+            case WRONG_POSITION -> FeedbackStatus.WRONG_POSITION;
+            default -> FeedbackStatus.INCORRECT;
+        };
+    }
+
+    /**
+     * @param length The word length.
+     * @return The packed feedback of a fully correct guess of that length.
+     */
+    public static long solved(int length) {
+        long packed = 0L;
+        for (int i = 0; i < length; i++) {
+            packed |= (long) CORRECT_POSITION << (i << 1);
+        }
+        return packed;
+    }
+
+    /**
+     * @param packed Packed feedback.
+     * @param length The word length.
+     * @return {@code true} if every position is CORRECT_POSITION.
+     */
+    public static boolean isSolved(long packed, int length) {
+        return packed == solved(length);
+    }
+
+    /**
+     * Expands packed feedback into the list form returned by the API.
+     *
+     * @param guess The guessed word the feedback belongs to.
+     * @param packed Packed feedback.
+     * @return One LetterFeedback per letter of the guess.
+     */
+    public static List<LetterFeedback> toLetterFeedback(String guess, long packed) {
+        List<LetterFeedback> feedback = new ArrayList<>(guess.length());
+        for (int i = 0; i < guess.length(); i++) {
+            feedback.add(new LetterFeedback(guess.charAt(i), status(packed, i)));
+        }
+        return feedback;
+    }
+}
@@ -0,0 +1,157 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.repository.GameExportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports every game or every guess as NDJSON, one JSON object per line, optionally gzip-compressed.
+ * <p>
+ * Rows go straight from a JDBC cursor ({@link GameExportRepository}) to a streaming JSON generator,
+ * so memory use does not depend on the number of rows. Guesses still held by the write-behind
+ * {@link ActiveGameStore} are exported once they are flushed.
+ */
+@Service
+public class GameExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(GameExportService.class);
+
+    private final GameExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public GameExportService(GameExportRepository exportRepository, ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * The tables that can be exported.
+     */
+    public enum Dataset {
+        GAMES, GUESSES
+    }
+
+    /**
+     * Writes a whole table to the stream.
+     *
+     * @param dataset The table to export.
+     * @param output The destination. It is not closed.
+     * @param gzip Whether to compress the output.
+     * @return the number of rows written.
+     * @throws IOException if the destination fails, for example when the client disconnects.
+     */
+    public long export(Dataset dataset, OutputStream output, boolean gzip) throws IOException {
+        long start = System.nanoTime();
+        long rows;
+        // Closing the gzip stream writes its trailer and releases its native deflater, but the
+        // destination belongs to the caller and stays open.
+        OutputStream destination = new NonClosingOutputStream(output);
+        try (OutputStream target = gzip ? new GZIPOutputStream(destination, 1 << 16) : destination;
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            // Lines are separated explicitly, never by the generator.
+            generator.setRootValueSeparator(null);
+            NdjsonWriter writer = new NdjsonWriter(generator);
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                switch (dataset) {
+                    case GAMES -> exportRepository.streamGames(writer);
+                    case GUESSES -> exportRepository.streamGuesses(writer);
+                }
+            });
+            rows = writer.rows;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Exported {} {} rows in {} ms", rows, dataset.name().toLowerCase(Locale.ROOT), (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Passes everything through to the wrapped stream but only flushes it on close.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        private NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            // FilterOutputStream would write the bytes one by one.
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    /**
+     * Writes each row as a JSON object whose fields are the column labels.
+     */
+    private static final class NdjsonWriter implements RowCallbackHandler {
+        private final JsonGenerator generator;
+        private String[] labels;
+        private long rows;
+
+        private NdjsonWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (labels == null) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                labels = new String[metaData.getColumnCount()];
+                for (int i = 0; i < labels.length; i++) {
+                    labels[i] = metaData.getColumnLabel(i + 1);
+                }
+            }
+            try {
+                generator.writeStartObject();
+                for (int i = 0; i < labels.length; i++) {
+                    writeField(labels[i], rs.getObject(i + 1));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows++;
+        }
+
+        private void writeField(String name, Object value) throws IOException {
+            switch (value) {
+                case null -> generator.writeNullField(name);
+                case Long number -> generator.writeNumberField(name, number);
+                case Integer number -> generator.writeNumberField(name, number);
+                case Timestamp timestamp -> generator.writeStringField(name, timestamp.toLocalDateTime().toString());
+                case Date date -> generator.writeStringField(name, date.toLocalDate().toString());
+                default -> generator.writeStringField(name, value.toString());
+            }
+        }
+    }
+}
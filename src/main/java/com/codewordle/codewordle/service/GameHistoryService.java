@@ -0,0 +1,77 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.dto.GameHistoryEntry;
+import com.codewordle.codewordle.dto.GameHistoryResponse;
+import com.codewordle.codewordle.exception.InvalidRequestException;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.repository.GameRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * A player's finished games, newest first, with keyset (seek) pagination.
+ * <p>
+ * The cursor of a page is the (endTime, id) of its last game, so the next page starts with an index
+ * seek to that position instead of skipping rows with an offset: every page costs the same, however
+ * deep. Rows are selected straight into DTOs with only the columns the history shows.
+ * <p>
+ * With the write-behind {@link ActiveGameStore}, a game shows up once its final guess is flushed.
+ */
+@Service
+public class GameHistoryService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final char SEPARATOR = '|';
+
+    private final GameRepository gameRepository;
+
+    public GameHistoryService(GameRepository gameRepository) {
+        this.gameRepository = gameRepository;
+    }
+
+    /**
+     * @param user The player.
+     * @param cursor The {@code nextCursor} of the previous page, or null for the first page.
+     * @param size The page size, capped at {@value #MAX_PAGE_SIZE}.
+     * @return the page and the cursor of the next one.
+     * @throws InvalidRequestException if the cursor is malformed.
+     */
+    public GameHistoryResponse getHistory(User user, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        List<GameHistoryEntry> games;
+        if (cursor == null || cursor.isBlank()) {
+            games = gameRepository.findHistory(user.getId(), Limit.of(pageSize));
+        } else {
+            Cursor position = decode(cursor);
+            games = gameRepository.findHistoryBefore(user.getId(), position.endTime(), position.id(), Limit.of(pageSize));
+        }
+        String nextCursor = games.size() < pageSize ? null : encode(games.getLast());
+        return new GameHistoryResponse(games, nextCursor);
+    }
+
+    private static String encode(GameHistoryEntry last) {
+        String position = last.getEndTime().toString() + SEPARATOR + last.getGameId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decode(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(position.substring(0, separator)),
+                    Long.parseLong(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid history cursor: " + cursor, e);
+        }
+    }
+
+    private record Cursor(LocalDateTime endTime, long id) {
+    }
+}
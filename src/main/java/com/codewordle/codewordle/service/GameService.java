@@ -1,38 +1,108 @@
 package com.codewordle.codewordle.service;
 
 import com.codewordle.codewordle.dto.ActiveGameStateResponse;
+import com.codewordle.codewordle.dto.GameStateResponse;
 import com.codewordle.codewordle.dto.GuessResult;
+import com.codewordle.codewordle.dto.HintResponse;
 import com.codewordle.codewordle.dto.LetterFeedback;
+import com.codewordle.codewordle.event.GuessMadeEvent;
+import com.codewordle.codewordle.exception.InvalidRequestException;
+import com.codewordle.codewordle.exception.ResourceNotFoundException;
+import com.codewordle.codewordle.exception.ServiceBusyException;
+import com.codewordle.codewordle.metrics.CodewordleMetrics;
 import com.codewordle.codewordle.model.*;
 import com.codewordle.codewordle.repository.GameRepository;
 import com.codewordle.codewordle.repository.GuessRepository;
+import com.codewordle.codewordle.repository.DailyPuzzleRepository.DailyPuzzle;
 import com.codewordle.codewordle.repository.WordRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.locks.Lock;
 
 /**
  * Service class containing the core business logic for the CodeWordle game.
  * It handles starting games, processing guesses, and determining game outcomes.
+ * <p>
+ * When the {@link ActiveGameStore} is enabled, guesses and the active game state are served
+ * from memory and persisted asynchronously; otherwise every guess is written in its own transaction.
+ * <p>
+ * Daily games take their word from the {@link DailyPuzzleService} and use its memoized feedback.
+ * Hints come from the {@link HintEngine} and do not count as attempts. The remaining candidates of
+ * each game are tracked by the {@link CandidateCounter}. Versus matches ({@link MatchService}) start
+ * ordinary games on a shared word and follow them through the {@link GuessMadeEvent}.
+ * <p>
+ * Concurrent requests of the same user (double clicks, client retries) are safe without database
+ * row locks. Within an instance, starts of the same user and guesses of the same game run one at a
+ * time under striped in-memory locks ({@code codewordle.games.lock-stripes}). Across instances, the
+ * database keeps at most one game in progress per user (a unique index) and games carry an
+ * optimistic version: a guess that lost a race is retried on the fresh game, at most
+ * {@code codewordle.games.optimistic-retries} times.
  */
 @Service
 public class GameService {
 
-    private static final int MAX_ATTEMPTS = 6;
+    static final int MAX_ATTEMPTS = 6;
+
+    /** The unique index that allows one game in progress per user (migration V8). */
+    private static final String IN_PROGRESS_INDEX = "uk_games_in_progress_user";
+    /** The unique index that allows one game per user of each daily puzzle (migration V5). */
+    private static final String DAILY_INDEX = "uk_games_daily";
 
     private final GameRepository gameRepository;
     private final WordRepository wordRepository;
     private final GuessRepository guessRepository;
+    private final WordIndex wordIndex;
+    private final DailyPuzzleService dailyPuzzleService;
+    private final WordDictionary wordDictionary;
+    private final HintEngine hintEngine;
+    private final CandidateCounter candidateCounter;
+    private final ActiveGameStore activeGameStore;
+    private final CodewordleMetrics metrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final StripedLocks userLocks;
+    private final StripedLocks gameLocks;
+    private final int optimisticRetries;
 
-    public GameService(GameRepository gameRepository, WordRepository wordRepository, GuessRepository guessRepository) {
+    public GameService(GameRepository gameRepository, WordRepository wordRepository, GuessRepository guessRepository,
+                       WordIndex wordIndex, DailyPuzzleService dailyPuzzleService, WordDictionary wordDictionary,
+                       HintEngine hintEngine, CandidateCounter candidateCounter, ActiveGameStore activeGameStore, CodewordleMetrics metrics,
+                       ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                       @Value("${codewordle.games.lock-stripes:1024}") int lockStripes,
+                       @Value("${codewordle.games.optimistic-retries:3}") int optimisticRetries) {
         this.gameRepository = gameRepository;
         this.wordRepository = wordRepository;
         this.guessRepository = guessRepository;
+        this.wordIndex = wordIndex;
+        this.dailyPuzzleService = dailyPuzzleService;
+        this.wordDictionary = wordDictionary;
+        this.hintEngine = hintEngine;
+        this.candidateCounter = candidateCounter;
+        this.activeGameStore = activeGameStore;
+        this.metrics = metrics;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.userLocks = new StripedLocks(lockStripes);
+        this.gameLocks = new StripedLocks(lockStripes);
+        this.optimisticRetries = optimisticRetries;
     }
 
     /**
@@ -45,28 +115,157 @@ public class GameService {
      * @throws IllegalStateException if the user already has a game in progress.
      * @throws IllegalArgumentException if no words are found for the topic.
      */
-    @Transactional
     public Game startNewGame(User user, String topic) {
+        return start(user, topic, false, null).game();
+    }
+
+    /**
+     * Starts today's daily game of a topic: every player gets the same word for the topic today.
+     * Each player can play the daily word of a topic once.
+     *
+     * @param user The user starting the game.
+     * @param topic The selected topic.
+     * @return The newly created Game object.
+     * @throws IllegalStateException if the user has a game in progress or already played today's word of the topic.
+     * @throws IllegalArgumentException if no words are found for the topic.
+     */
+    public Game startDailyGame(User user, String topic) {
+        return start(user, topic, true, null).game();
+    }
+
+    /**
+     * Starts a game on a word chosen by the caller, such as the word shared by the players of a versus match.
+     *
+     * @param user The user starting the game.
+     * @param topic The topic of the word.
+     * @param word The target word.
+     * @return The newly created Game object.
+     * @throws IllegalStateException if the user already has a game in progress.
+     */
+    public Game startGameWithWord(User user, String topic, WordIndex.IndexedWord word) {
+        return start(user, topic, false, word).game();
+    }
+
+    /**
+     * Starts a random or daily game and describes it for the client. The word length comes from the
+     * word chosen in memory, so the response does not load the word row.
+     *
+     * @param user The user starting the game.
+     * @param topic The selected topic.
+     * @param daily Whether to play today's daily word of the topic.
+     * @return the id of the game, the length of its word and the maximum attempts.
+     * @throws IllegalStateException if the user has a game in progress or already played today's word of the topic.
+     * @throws IllegalArgumentException if no words are found for the topic.
+     */
+    public GameStateResponse startGame(User user, String topic, boolean daily) {
+        StartedGame started = start(user, topic, daily, null);
+        return new GameStateResponse(started.game().getId(), started.word().length(), MAX_ATTEMPTS);
+    }
+
+    private StartedGame start(User user, String topic, boolean daily, WordIndex.IndexedWord word) {
+        long start = metrics.start();
+        boolean success = false;
+        Lock lock = userLocks.get(user.getId());
+        lock.lock();
+        try {
+            StartedGame game = insertGame(user, topic, daily, word);
+            success = true;
+            return game;
+        } finally {
+            lock.unlock();
+            metrics.recordGameStart(start, success);
+        }
+    }
+
+    private StartedGame insertGame(User user, String topic, boolean daily, WordIndex.IndexedWord word) {
+        try {
+            return transactionTemplate.execute(status -> createGame(user, topic, daily, word));
+        } catch (DataIntegrityViolationException e) {
+            if (!violates(e, IN_PROGRESS_INDEX) || !activeGameStore.isEnabled()) {
+                throw translate(e, topic);
+            }
+            // The user's last game may be finished in memory but not flushed yet: its row still
+            // counts as in progress for the unique index. Flush it and try once more.
+            activeGameStore.flush();
+            try {
+                return transactionTemplate.execute(status -> createGame(user, topic, daily, word));
+            } catch (DataIntegrityViolationException retryFailure) {
+                throw translate(retryFailure, topic);
+            }
+        }
+    }
+
+    /**
+     * The unique indexes enforce one game in progress per user and one daily puzzle per user and day,
+     * also across instances. Their violations are the user's error; any other one is a bug.
+     */
+    private static RuntimeException translate(DataIntegrityViolationException e, String topic) {
+        if (violates(e, IN_PROGRESS_INDEX)) {
+            return new IllegalStateException("User already has a game in progress.", e);
+        }
+        if (violates(e, DAILY_INDEX)) {
+            return new IllegalStateException("User already played today's daily puzzle of the topic: " + topic, e);
+        }
+        return e;
+    }
+
+    /**
+     * @return whether the failure comes from the unique index or constraint of the given name.
+     */
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private StartedGame createGame(User user, String topic, boolean daily, WordIndex.IndexedWord word) {
         // A business rule: a user cannot have more than one game in progress.
-        if (gameRepository.findByUserAndStatus(user, GameStatus.IN_PROGRESS).isPresent()) {
+        boolean hasGameInProgress = activeGameStore.isEnabled()
+                ? activeGameStore.findInProgressByUserId(user.getId()).isPresent()
+                : gameRepository.findByUserAndStatus(user, GameStatus.IN_PROGRESS).isPresent();
+        if (hasGameInProgress) {
             throw new IllegalStateException("User already has a game in progress.");
         }
 
-        List<Word> words = wordRepository.findByTopic(topic);
-        if (words.isEmpty()) {
-            throw new IllegalArgumentException("No words found for the topic: " + topic);
+        // Select the word for the chosen topic from memory: the given word, today's daily word or a random one.
+        // Only a reference is needed to link the game, so no word row is loaded here.
+        long wordId;
+        String wordText;
+        LocalDate puzzleDate = null;
+        if (word != null) {
+            wordId = word.id();
+            wordText = word.text();
+        } else if (daily) {
+            DailyPuzzle puzzle = dailyPuzzleService.todaysPuzzle(topic)
+                    .orElseThrow(() -> new IllegalArgumentException("No words found for the topic: " + topic));
+            wordId = puzzle.wordId();
+            wordText = puzzle.text();
+            puzzleDate = puzzle.date();
+        } else {
+            WordIndex.IndexedWord selected = wordIndex.randomWord(topic)
+                    .orElseThrow(() -> new IllegalArgumentException("No words found for the topic: " + topic));
+            wordId = selected.id();
+            wordText = selected.text();
         }
-
-        // Select a random word from the list for the chosen topic.
-        Word targetWord = words.get(new Random().nextInt(words.size()));
+        Word targetWord = wordRepository.getReferenceById(wordId);
 
         Game newGame = new Game();
         newGame.setUser(user);
         newGame.setTargetWord(targetWord);
         newGame.setStatus(GameStatus.IN_PROGRESS);
         newGame.setStartTime(LocalDateTime.now());
+        newGame.setAttempts(0);
+        newGame.setPuzzleDate(puzzleDate);
 
-        return gameRepository.save(newGame);
+        Game savedGame = gameRepository.save(newGame);
+        if (activeGameStore.isEnabled()) {
+            activeGameStore.register(savedGame, wordText, topic);
+        }
+        return new StartedGame(savedGame, wordText);
     }
 
     /**
@@ -78,25 +277,66 @@ public class GameService {
      * @return A GuessResult DTO containing feedback for each letter and the current game state.
      * @throws SecurityException if the user is not the owner of the game.
      * @throws IllegalStateException if the game is not in progress.
-     * @throws IllegalArgumentException if the game is not found or the guess has an incorrect length.
+     * @throws ResourceNotFoundException if the game is not found.
+     * @throws InvalidRequestException if the guess is not in the dictionary or has an incorrect length.
      */
-    @Transactional
     public GuessResult makeGuess(Long gameId, String guessedWord, User user) {
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("Game not found with id: " + gameId));
-
-        // --- VALIDATIONS (Guard Clauses) ---
-        if (game.getUser().getId() != user.getId()) {
-            throw new SecurityException("User is not authorized to make a guess in this game.");
-        }
-        if (game.getStatus() != GameStatus.IN_PROGRESS) {
-            throw new IllegalStateException("Game is not in progress. Its status is " + game.getStatus());
+        long start = metrics.start();
+        boolean success = false;
+        try {
+            // In-memory check first: an unknown word never loads the game nor writes a guess.
+            if (!wordDictionary.contains(guessedWord)) {
+                throw new InvalidRequestException("Guess is not in the word list: " + guessedWord);
+            }
+            GuessResult result = null;
+            if (activeGameStore.isEnabled()) {
+                Optional<ActiveGameStore.ActiveGame> activeGame = activeGameStore.find(gameId);
+                if (activeGame.isPresent()) {
+                    result = makeGuessInMemory(activeGame.get(), guessedWord, user);
+                }
+            }
+            if (result == null) {
+                result = makeGuessWithRetries(gameId, guessedWord, user);
+            }
+            success = true;
+            return result;
+        } finally {
+            metrics.recordGuess(start, success);
         }
-        if (guessedWord.length() != game.getTargetWord().getText().length()) {
-            throw new IllegalArgumentException("Guess has an incorrect length. Expected " + game.getTargetWord().getText().length() + " but got " + guessedWord.length());
+    }
+
+    private GuessResult makeGuessWithRetries(Long gameId, String guessedWord, User user) {
+        Lock lock = gameLocks.get(gameId);
+        lock.lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionTemplate.execute(status -> makeGuessInDatabase(gameId, guessedWord, user));
+                } catch (OptimisticLockingFailureException e) {
+                    // Another instance updated the game first. The next attempt sees its guess and
+                    // applies the rules again, so a finished game rejects this one.
+                    candidateCounter.forget(gameId);
+                    if (attempt >= optimisticRetries) {
+                        throw new ServiceBusyException("The game is being updated concurrently, please retry.", 1);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
         }
+    }
+
+    private GuessResult makeGuessInDatabase(Long gameId, String guessedWord, User user) {
+        // One statement: the game and its target word. The owner stays a lazy reference,
+        // its id is available without loading the user row.
+        Game game = gameRepository.findWithTargetWordById(gameId)
+                .orElseThrow(() -> new ResourceNotFoundException("Game not found with id: " + gameId));
+        String targetWord = game.getTargetWord().getText();
 
-        String normalizedGuess = guessedWord.toUpperCase();
+        // --- VALIDATIONS (Guard Clauses) ---
+        validateGuess(game.getUser().getId(), game.getStatus(), targetWord, guessedWord, user);
+
+        String normalizedGuess = guessedWord.toUpperCase(Locale.ROOT);
 
         // Persist the user's guess
         Guess guess = new Guess();
@@ -106,68 +346,139 @@ public class GameService {
         guessRepository.save(guess);
 
         // --- CORE GAME LOGIC ---
-        List<LetterFeedback> feedback = calculateFeedback(normalizedGuess, game.getTargetWord().getText());
-        int attempts = guessRepository.countByGame(game);
+        long feedback = computeFeedback(normalizedGuess, targetWord, game.getPuzzleDate() != null);
+        int attempts = game.getAttempts() + 1;
+        game.setAttempts(attempts);
 
         // Check for win/loss conditions
-        if (normalizedGuess.equals(game.getTargetWord().getText())) {
-            game.setStatus(GameStatus.WON);
-            game.setEndTime(LocalDateTime.now());
-        } else if (attempts >= MAX_ATTEMPTS) {
-            game.setStatus(GameStatus.LOST);
+        GameStatus status = outcome(feedback, normalizedGuess.length(), attempts);
+        if (status != GameStatus.IN_PROGRESS) {
+            game.setStatus(status);
             game.setEndTime(LocalDateTime.now());
+            String finishedTopic = game.getTargetWord().getTopic();
+            // Counted once committed: a transaction that loses the version check is retried.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    metrics.gameFinished(finishedTopic, status);
+                }
+            });
         }
-        gameRepository.save(game); // Save the updated game status
+        // The game is managed: dirty checking flushes attempts and status in a single versioned UPDATE on commit.
+        // Transactional listeners receive the event after that commit.
+        String topic = game.getTargetWord().getTopic();
+        eventPublisher.publishEvent(new GuessMadeEvent(gameId, user.getId(), user.getName(),
+                topic, normalizedGuess, feedback, attempts, status, guess.getTimestamp()));
 
+        // The previous guesses are only read if the game's candidates were evicted.
+        int remainingCandidates = candidateCounter.afterGuess(gameId, topic, targetWord, normalizedGuess, feedback,
+                attempts, () -> guessRepository.findByGameOrderByTimestampAsc(game).stream()
+                        .map(Guess::getGuessedWord)
+                        .toList());
         int remainingAttempts = MAX_ATTEMPTS - attempts;
-        return new GuessResult(game.getStatus(), feedback, remainingAttempts, game.getTargetWord().getText());
+        return new GuessResult(status, FeedbackEngine.toLetterFeedback(normalizedGuess, feedback),
+                remainingAttempts, targetWord, remainingCandidates);
+    }
+
+    private GuessResult makeGuessInMemory(ActiveGameStore.ActiveGame game, String guessedWord, User user) {
+        GuessMadeEvent event;
+        int remainingCandidates;
+        synchronized (game) {
+            validateGuess(game.getUserId(), game.getStatus(), game.getTargetWord(), guessedWord, user);
+
+            String normalizedGuess = guessedWord.toUpperCase(Locale.ROOT);
+            long feedback = computeFeedback(normalizedGuess, game.getTargetWord(), game.getPuzzleDate() != null);
+            int attempts = game.getAttempts() + 1;
+            GameStatus status = outcome(feedback, normalizedGuess.length(), attempts);
+
+            // Applied in memory now, written to the database by the next flush.
+            activeGameStore.recordGuess(game, normalizedGuess, status);
+            if (status != GameStatus.IN_PROGRESS) {
+                metrics.gameFinished(game.getTopic(), status);
+            }
+            event = new GuessMadeEvent(game.getGameId(), user.getId(), user.getName(), game.getTopic(),
+                    normalizedGuess, feedback, attempts, status, LocalDateTime.now());
+            remainingCandidates = candidateCounter.afterGuess(game.getGameId(), game.getTopic(), game.getTargetWord(),
+                    normalizedGuess, feedback, attempts, game::getGuesses);
+        }
+        // Listeners run outside the game's monitor.
+        eventPublisher.publishEvent(event);
+
+        int remainingAttempts = MAX_ATTEMPTS - event.attempts();
+        return new GuessResult(event.status(), FeedbackEngine.toLetterFeedback(event.guess(), event.feedback()),
+                remainingAttempts, game.getTargetWord(), remainingCandidates);
+    }
+
+    private long computeFeedback(String guess, String targetWord, boolean daily) {
+        long start = metrics.start();
+        // Daily targets are shared by every player, so their feedback is worth memoizing.
+        long feedback = daily
+                ? dailyPuzzleService.feedback(guess, targetWord)
+                : FeedbackEngine.compute(guess, targetWord);
+        metrics.recordFeedback(start);
+        return feedback;
     }
 
     /**
-     * Helper method to calculate letter-by-letter feedback for a guess, implementing the core Wordle logic.
-     * This two-pass algorithm correctly handles duplicate letters.
+     * Suggests the next guess of a game in progress: the word with the highest expected information
+     * gain over the topic words still consistent with the previous guesses.
      *
-     * @param guess The user's guessed word (normalized to uppercase).
-     * @param target The target word (normalized to uppercase).
-     * @return A list of LetterFeedback objects.
+     * @param gameId The ID of the game being played.
+     * @param user The user asking for the hint.
+     * @return A HintResponse with the suggestion and the number of remaining candidates.
+     * @throws SecurityException if the user is not the owner of the game.
+     * @throws IllegalStateException if the game is not in progress.
+     * @throws ResourceNotFoundException if the game is not found.
      */
-    private List<LetterFeedback> calculateFeedback(String guess, String target) {
-        List<LetterFeedback> feedbackList = new ArrayList<>();
-        char[] guessChars = guess.toCharArray();
-        char[] targetChars = target.toCharArray();
-        boolean[] targetLetterUsed = new boolean[target.length()]; // Tracks used letters in the target word
-
-        // First pass: check for CORRECT_POSITION (Green) matches.
-        // These have priority and "claim" letters from the target word.
-        for (int i = 0; i < guess.length(); i++) {
-            if (guessChars[i] == targetChars[i]) {
-                feedbackList.add(new LetterFeedback(guessChars[i], FeedbackStatus.CORRECT_POSITION));
-                targetLetterUsed[i] = true; // Mark this letter as used
-            } else {
-                feedbackList.add(null); // Add a placeholder for the second pass
+    public HintResponse suggestHint(Long gameId, User user) {
+        Optional<ActiveGameStore.ActiveGame> activeGame = activeGameStore.isEnabled()
+                ? activeGameStore.find(gameId)
+                : Optional.empty();
+        GameSnapshot snapshot;
+        if (activeGame.isPresent()) {
+            ActiveGameStore.ActiveGame game = activeGame.get();
+            synchronized (game) {
+                validateTurn(game.getUserId(), game.getStatus(), user);
+                snapshot = new GameSnapshot(game.getTopic(), game.getTargetWord(), List.copyOf(game.getGuesses()));
             }
+        } else {
+            snapshot = readOnlyTransactionTemplate.execute(status -> {
+                Game game = gameRepository.findWithTargetWordById(gameId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Game not found with id: " + gameId));
+                validateTurn(game.getUser().getId(), game.getStatus(), user);
+                List<String> guesses = guessRepository.findByGameOrderByTimestampAsc(game).stream()
+                        .map(Guess::getGuessedWord)
+                        .toList();
+                return new GameSnapshot(game.getTargetWord().getTopic(), game.getTargetWord().getText(), guesses);
+            });
         }
 
-        // Second pass: check for WRONG_POSITION (Yellow) and INCORRECT (Gray) matches.
-        for (int i = 0; i < guess.length(); i++) {
-            if (feedbackList.get(i) == null) { // Only process letters that weren't a perfect match
-                boolean foundInWrongPosition = false;
-                for (int j = 0; j < target.length(); j++) {
-                    // Check if the letter exists in the target AND that specific instance hasn't been used yet
-                    if (guessChars[i] == targetChars[j] && !targetLetterUsed[j]) {
-                        feedbackList.set(i, new LetterFeedback(guessChars[i], FeedbackStatus.WRONG_POSITION));
-                        targetLetterUsed[j] = true; // Mark this letter as used to handle duplicates
-                        foundInWrongPosition = true;
-                        break; // Move to the next letter in the guess
-                    }
-                }
-                // If after checking all target letters it was not found, it's incorrect.
-                if (!foundInWrongPosition) {
-                    feedbackList.set(i, new LetterFeedback(guessChars[i], FeedbackStatus.INCORRECT));
-                }
-            }
+        return hintEngine.suggest(snapshot.topic(), snapshot.targetWord(), snapshot.guesses())
+                .map(hint -> new HintResponse(gameId, hint.word(), hint.candidates(), hint.expectedBits()))
+                .orElseGet(() -> new HintResponse(gameId, null, 0, 0));
+    }
+
+    private static void validateGuess(int ownerId, GameStatus status, String targetWord, String guessedWord, User user) {
+        validateTurn(ownerId, status, user);
+        if (guessedWord.length() != targetWord.length()) {
+            throw new InvalidRequestException("Guess has an incorrect length. Expected " + targetWord.length() + " but got " + guessedWord.length());
+        }
+    }
+
+    private static void validateTurn(int ownerId, GameStatus status, User user) {
+        if (ownerId != user.getId()) {
+            throw new SecurityException("User is not authorized to make a guess in this game.");
+        }
+        if (status != GameStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Game is not in progress. Its status is " + status);
+        }
+    }
+
+    private static GameStatus outcome(long feedback, int wordLength, int attempts) {
+        if (FeedbackEngine.isSolved(feedback, wordLength)) {
+            return GameStatus.WON;
         }
-        return feedbackList;
+        return attempts >= MAX_ATTEMPTS ? GameStatus.LOST : GameStatus.IN_PROGRESS;
     }
 
     /**
@@ -176,29 +487,64 @@ public class GameService {
      * @param user The currently authenticated user.
      * @return An Optional containing the full game state if an active game is found.
      */
-    @Transactional(readOnly = true) // Es una operación de solo lectura
     public Optional<ActiveGameStateResponse> getActiveGameForUser(User user) {
-        Optional<Game> activeGameOpt = gameRepository.findByUserAndStatus(user, GameStatus.IN_PROGRESS);
+        long start = metrics.start();
+        try {
+            return findActiveGame(user);
+        } finally {
+            metrics.recordActiveGame(start);
+        }
+    }
 
-        if (activeGameOpt.isEmpty()) {
-            return Optional.empty();
+    private Optional<ActiveGameStateResponse> findActiveGame(User user) {
+        if (activeGameStore.isEnabled()) {
+            return activeGameStore.findInProgressByUserId(user.getId()).map(game -> {
+                synchronized (game) {
+                    return toActiveGameState(game.getGameId(), game.getTopic(), game.getTargetWord(), game.getGuesses());
+                }
+            });
         }
 
-        Game activeGame = activeGameOpt.get();
-        List<Guess> guesses = guessRepository.findByGameOrderByTimestampAsc(activeGame);
+        // Es una operación de solo lectura
+        return readOnlyTransactionTemplate.execute(status -> {
+            Optional<Game> activeGameOpt = gameRepository.findByUserAndStatus(user, GameStatus.IN_PROGRESS);
 
+            if (activeGameOpt.isEmpty()) {
+                return Optional.empty();
+            }
+
+            Game activeGame = activeGameOpt.get();
+            List<String> guesses = guessRepository.findByGameOrderByTimestampAsc(activeGame).stream()
+                    .map(Guess::getGuessedWord)
+                    .toList();
+            return Optional.of(toActiveGameState(activeGame.getId(), activeGame.getTargetWord().getTopic(),
+                    activeGame.getTargetWord().getText(), guesses));
+        });
+    }
+
+    private ActiveGameStateResponse toActiveGameState(long gameId, String topic, String targetWord, List<String> guesses) {
         List<List<LetterFeedback>> previousGuessesFeedback = new ArrayList<>();
-        for (Guess guess : guesses) {
-            previousGuessesFeedback.add(calculateFeedback(guess.getGuessedWord(), activeGame.getTargetWord().getText()));
+        for (String guess : guesses) {
+            long feedback = FeedbackEngine.compute(guess, targetWord);
+            previousGuessesFeedback.add(FeedbackEngine.toLetterFeedback(guess, feedback));
         }
 
-        ActiveGameStateResponse response = new ActiveGameStateResponse(
-                activeGame.getId(),
-                activeGame.getTargetWord().getText().length(),
+        return new ActiveGameStateResponse(
+                gameId,
+                targetWord.length(),
                 MAX_ATTEMPTS,
-                previousGuessesFeedback
+                previousGuessesFeedback,
+                candidateCounter.remaining(gameId, topic, targetWord, guesses)
         );
+    }
+
+    /**
+     * @param game The new game. Its target word is an uninitialized reference.
+     * @param word The uppercase target word.
+     */
+    private record StartedGame(Game game, String word) {
+    }
 
-        return Optional.of(response);
+    private record GameSnapshot(String topic, String targetWord, List<String> guesses) {
     }
 }
@@ -0,0 +1,54 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.model.GameStatus;
+
+import java.util.Arrays;
+
+/**
+ * Immutable aggregate over a sequence of finished games (of a user, a topic, or a user in a topic).
+ * {@link #record} returns a new instance, so a published aggregate can be read without locking.
+ *
+ * @param played Number of finished games.
+ * @param won Number of won games.
+ * @param currentStreak Consecutive wins up to the latest game.
+ * @param maxStreak Longest run of consecutive wins.
+ * @param distribution Won games by number of attempts: index {@code i} counts wins in {@code i + 1} guesses.
+ * @param totalWinAttempts Sum of the attempts of all won games.
+ */
+public record GameStats(int played, int won, int currentStreak, int maxStreak, int[] distribution, long totalWinAttempts) {
+
+    /**
+     * @param maxAttempts The number of guesses allowed per game.
+     * @return the aggregate of no games.
+     */
+    public static GameStats empty(int maxAttempts) {
+        return new GameStats(0, 0, 0, 0, new int[maxAttempts], 0);
+    }
+
+    /**
+     * @param status The final status of the game, WON or LOST.
+     * @param attempts The number of guesses the game took.
+     * @return this aggregate with one more finished game.
+     */
+    public GameStats record(GameStatus status, int attempts) {
+        if (status != GameStatus.WON) {
+            return new GameStats(played + 1, won, 0, maxStreak, distribution, totalWinAttempts);
+        }
+        int[] updated = Arrays.copyOf(distribution, distribution.length);
+        updated[Math.min(attempts, updated.length) - 1]++;
+        int streak = currentStreak + 1;
+        return new GameStats(played + 1, won + 1, streak, Math.max(maxStreak, streak), updated,
+                totalWinAttempts + attempts);
+    }
+
+    public double winRate() {
+        return played == 0 ? 0 : (double) won / played;
+    }
+
+    /**
+     * @return the average number of guesses of the won games.
+     */
+    public double averageAttempts() {
+        return won == 0 ? 0 : (double) totalWinAttempts / won;
+    }
+}
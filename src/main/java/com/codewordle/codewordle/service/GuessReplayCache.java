@@ -0,0 +1,89 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.dto.GuessResult;
+import com.codewordle.codewordle.exception.InvalidRequestException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Makes guess submissions idempotent: a guess sent again with the same {@code Idempotency-Key}
+ * (a browser or proxy retry) gets the result of the first submission instead of spending another
+ * attempt, and never reaches the {@link GameService} or the database.
+ * <p>
+ * Results are kept per (user, game, key, guess) in a bounded cache
+ * ({@code codewordle.games.idempotency.max-keys}) for {@code codewordle.games.idempotency.ttl}.
+ * A duplicate that arrives while the first submission is still running waits for its result.
+ * Failed submissions are not kept, so retrying after an error runs the guess again.
+ */
+@Service
+public class GuessReplayCache {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<Key, CompletableFuture<GuessResult>> results;
+
+    public GuessReplayCache(@Value("${codewordle.games.idempotency.max-keys:100000}") long maxKeys,
+                            @Value("${codewordle.games.idempotency.ttl:PT10M}") Duration ttl) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the result of an earlier submission with the same key, or makes the guess.
+     *
+     * @param userId The user making the guess.
+     * @param gameId The game.
+     * @param idempotencyKey The key chosen by the client for this submission.
+     * @param word The guessed word.
+     * @param guess Makes the guess; called at most once per key while its result is kept.
+     * @return the result of the first submission with this key.
+     * @throws InvalidRequestException if the key is blank or longer than {@value #MAX_KEY_LENGTH} characters.
+     */
+    public GuessResult getOrMake(int userId, long gameId, String idempotencyKey, String word,
+                                 Supplier<GuessResult> guess) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("The Idempotency-Key must have 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        // The word is part of the key: a reused key never answers a different guess.
+        Key key = new Key(userId, gameId, idempotencyKey, word.toUpperCase(Locale.ROOT));
+        CompletableFuture<GuessResult> pending = new CompletableFuture<>();
+        CompletableFuture<GuessResult> first = results.asMap().putIfAbsent(key, pending);
+        if (first != null) {
+            return await(first);
+        }
+        try {
+            GuessResult result = guess.get();
+            pending.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            results.asMap().remove(key, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static GuessResult await(CompletableFuture<GuessResult> first) {
+        try {
+            return first.join();
+        } catch (CompletionException e) {
+            // The first submission failed: the duplicate fails the same way.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(int userId, long gameId, String idempotencyKey, String word) {
+    }
+}
@@ -0,0 +1,390 @@
+package com.codewordle.codewordle.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Suggests the next guess of a game: the word with the highest expected information gain, that is
+ * the entropy of the feedback it would get over the words still consistent with the previous guesses.
+ * Feedback follows the game rules ({@link FeedbackEngine}).
+ * <p>
+ * Guesses and candidates are the topic's words of the target's length, a word group. For each group
+ * the feedback of every guess against every target is precomputed once into a matrix of base-3 codes,
+ * one {@code char} per pair, so scoring a guess only counts codes. Matrices cover words of up to
+ * {@value #MAX_MATRIX_LENGTH} letters and groups of up to {@code codewordle.hints.max-matrix-words}
+ * words; other groups compute feedback on the fly. Matrices are built and guesses are scored on a
+ * dedicated fork-join pool ({@code codewordle.hints.parallelism}, all cores by default).
+ * <p>
+ * Groups are cached up to {@code codewordle.hints.cache-bytes} and keyed by the {@link WordIndex}
+ * generation, so a word change makes them stale. The best first guess of a group does not depend on
+ * the game and is computed once per group.
+ */
+@Service
+public class HintEngine {
+
+    /** The longest word whose base-3 feedback code fits in a {@code char}: 3^10 < 2^16. */
+    static final int MAX_MATRIX_LENGTH = 10;
+
+    private static final Logger log = LoggerFactory.getLogger(HintEngine.class);
+    // Guesses scored, or matrix rows filled, by one fork-join leaf.
+    private static final int LEAF_SIZE = 32;
+    private static final double EPSILON = 1e-9;
+
+    // Per-thread feedback code counters and the codes hit, grown on demand. Scoring leaves the counters zeroed.
+    private static final ThreadLocal<int[]> CODE_COUNTS = ThreadLocal.withInitial(() -> new int[0]);
+    private static final ThreadLocal<int[]> TOUCHED_CODES = ThreadLocal.withInitial(() -> new int[0]);
+
+    private final int maxMatrixWords;
+    private final WordIndex wordIndex;
+    private final ForkJoinPool pool;
+    private final Cache<GroupKey, WordGroup> groups;
+
+    public HintEngine(@Value("${codewordle.hints.max-matrix-words:4096}") int maxMatrixWords,
+                      @Value("${codewordle.hints.cache-bytes:268435456}") long cacheBytes,
+                      @Value("${codewordle.hints.parallelism:0}") int parallelism,
+                      WordIndex wordIndex) {
+        // A matrix is indexed by int: n * n must stay below 2^31.
+        this.maxMatrixWords = Math.min(maxMatrixWords, 46_340);
+        this.wordIndex = wordIndex;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.groups = Caffeine.newBuilder()
+                .maximumWeight(cacheBytes)
+                .weigher((GroupKey key, WordGroup group) -> group.weight())
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * @param topic The topic of the game.
+     * @param target The target word, uppercase.
+     * @param guesses The previous guesses, uppercase, each as long as the target.
+     * @return the suggested guess, empty if no word of the topic is consistent with the guesses.
+     */
+    public Optional<Hint> suggest(String topic, String target, List<String> guesses) {
+        WordGroup group = groups.get(new GroupKey(wordIndex.generation(), topic, target.length()), this::build);
+        if (group == null) {
+            return Optional.empty();
+        }
+        if (guesses.isEmpty()) {
+            return Optional.of(group.opener());
+        }
+        int[] candidates = group.candidates(target, guesses);
+        return candidates.length == 0 ? Optional.empty() : Optional.of(group.best(candidates));
+    }
+
+    private WordGroup build(GroupKey key) {
+        WordPack.TopicWords topicWords = wordIndex.wordsOf(key.topic());
+        Set<String> texts = new LinkedHashSet<>();
+        for (int i = 0; topicWords != null && i < topicWords.size(); i++) {
+            String text = topicWords.text(i);
+            if (text.length() == key.length()) {
+                texts.add(text);
+            }
+        }
+        if (texts.isEmpty()) {
+            return null;
+        }
+        long start = System.nanoTime();
+        WordGroup group = new WordGroup(texts.toArray(String[]::new), key.length(),
+                key.length() <= MAX_MATRIX_LENGTH && texts.size() <= maxMatrixWords);
+        if (group.codes != null) {
+            log.info("Hint matrix for topic {} and length {}: {} words in {} ms", key.topic(), key.length(),
+                    texts.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+        return group;
+    }
+
+    /**
+     * Base-3 code of packed feedback, position 0 being the least significant digit.
+     */
+    static int ternary(long packed, int length) {
+        int code = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            code = code * 3 + FeedbackEngine.statusCode(packed, i);
+        }
+        return code;
+    }
+
+    private static int[] counters(ThreadLocal<int[]> holder, int size) {
+        int[] counters = holder.get();
+        if (counters.length < size) {
+            counters = new int[size];
+            holder.set(counters);
+        }
+        return counters;
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    /**
+     * The words of a topic with one length, and their feedback matrix when it is precomputed.
+     */
+    private final class WordGroup {
+        private final String[] words;
+        private final Map<String, Integer> positions;
+        private final int length;
+        // codes[guess * n + target]: base-3 feedback code, or null when computed on the fly.
+        private final char[] codes;
+        private volatile Hint opener;
+
+        private WordGroup(String[] words, int length, boolean precompute) {
+            this.words = words;
+            this.length = length;
+            this.positions = new HashMap<>();
+            for (int i = 0; i < words.length; i++) {
+                positions.put(words[i], i);
+            }
+            this.codes = precompute ? new char[words.length * words.length] : null;
+            if (codes != null) {
+                pool.invoke(new FillRows(this, 0, words.length));
+            }
+        }
+
+        /**
+         * Comparable feedback: the base-3 code for words that fit a matrix, the packed feedback otherwise.
+         */
+        private long pattern(long packed) {
+            return length <= MAX_MATRIX_LENGTH ? ternary(packed, length) : packed;
+        }
+
+        private long pattern(int guess, int target) {
+            return codes != null
+                    ? codes[guess * words.length + target]
+                    : pattern(FeedbackEngine.compute(words[guess], words[target]));
+        }
+
+        private Hint opener() {
+            Hint hint = opener;
+            if (hint == null) {
+                int[] all = new int[words.length];
+                Arrays.setAll(all, i -> i);
+                hint = best(all);
+                opener = hint;
+            }
+            return hint;
+        }
+
+        /**
+         * @return the positions of the words that would have given the same feedback to every guess.
+         */
+        private int[] candidates(String target, List<String> guesses) {
+            int[] kept = new int[words.length];
+            Arrays.setAll(kept, i -> i);
+            int count = kept.length;
+            for (String guess : guesses) {
+                long expected = pattern(FeedbackEngine.compute(guess, target));
+                Integer row = positions.get(guess);
+                int next = 0;
+                for (int k = 0; k < count; k++) {
+                    int candidate = kept[k];
+                    long actual = row != null
+                            ? pattern(row, candidate)
+                            : pattern(FeedbackEngine.compute(guess, words[candidate]));
+                    if (actual == expected) {
+                        kept[next++] = candidate;
+                    }
+                }
+                count = next;
+            }
+            return Arrays.copyOf(kept, count);
+        }
+
+        private Hint best(int[] candidates) {
+            if (candidates.length == 1) {
+                return new Hint(words[candidates[0]], 1, 0);
+            }
+            boolean[] isCandidate = new boolean[words.length];
+            for (int candidate : candidates) {
+                isCandidate[candidate] = true;
+            }
+            // count * log2(count) for every possible bucket size.
+            double[] xLogX = new double[candidates.length + 1];
+            for (int count = 1; count <= candidates.length; count++) {
+                xLogX[count] = count * log2(count);
+            }
+            Scored best = pool.invoke(new ScoreGuesses(this, candidates, isCandidate, xLogX, 0, words.length));
+            return new Hint(words[best.guess()], candidates.length, best.entropy());
+        }
+
+        /**
+         * Entropy, in bits, of the feedback of a guess over the candidates.
+         */
+        private double entropy(int guess, int[] candidates, double[] xLogX) {
+            double sum = 0;
+            if (length <= MAX_MATRIX_LENGTH) {
+                int size = (int) Math.pow(3, length);
+                int[] counts = counters(CODE_COUNTS, size);
+                int[] touched = counters(TOUCHED_CODES, size);
+                int distinct = 0;
+                if (codes != null) {
+                    int row = guess * words.length;
+                    for (int candidate : candidates) {
+                        int code = codes[row + candidate];
+                        if (counts[code]++ == 0) {
+                            touched[distinct++] = code;
+                        }
+                    }
+                } else {
+                    for (int candidate : candidates) {
+                        int code = ternary(FeedbackEngine.compute(words[guess], words[candidate]), length);
+                        if (counts[code]++ == 0) {
+                            touched[distinct++] = code;
+                        }
+                    }
+                }
+                // Only the buckets that were hit are read, and left zeroed.
+                for (int i = 0; i < distinct; i++) {
+                    int code = touched[i];
+                    sum += xLogX[counts[code]];
+                    counts[code] = 0;
+                }
+            } else {
+                Map<Long, Integer> counts = new HashMap<>();
+                for (int candidate : candidates) {
+                    counts.merge(pattern(guess, candidate), 1, Integer::sum);
+                }
+                for (int count : counts.values()) {
+                    sum += xLogX[count];
+                }
+            }
+            return log2(candidates.length) - sum / candidates.length;
+        }
+
+        /**
+         * Approximate size in bytes: the matrix plus about 64 bytes per word.
+         */
+        private int weight() {
+            long bytes = (long) words.length * 64;
+            if (codes != null) {
+                bytes += (long) codes.length * Character.BYTES;
+            }
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Fills the feedback codes of a range of guesses.
+     */
+    private static final class FillRows extends RecursiveAction {
+        private final WordGroup group;
+        private final int from;
+        private final int to;
+
+        private FillRows(WordGroup group, int from, int to) {
+            this.group = group;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new FillRows(group, from, middle), new FillRows(group, middle, to));
+                return;
+            }
+            String[] words = group.words;
+            for (int guess = from; guess < to; guess++) {
+                int row = guess * words.length;
+                for (int target = 0; target < words.length; target++) {
+                    group.codes[row + target] =
+                            (char) ternary(FeedbackEngine.compute(words[guess], words[target]), group.length);
+                }
+            }
+        }
+    }
+
+    /**
+     * Scores a range of guesses and returns the best one.
+     */
+    private static final class ScoreGuesses extends RecursiveTask<Scored> {
+        private final WordGroup group;
+        private final int[] candidates;
+        private final boolean[] isCandidate;
+        private final double[] xLogX;
+        private final int from;
+        private final int to;
+
+        private ScoreGuesses(WordGroup group, int[] candidates, boolean[] isCandidate, double[] xLogX,
+                             int from, int to) {
+            this.group = group;
+            this.candidates = candidates;
+            this.isCandidate = isCandidate;
+            this.xLogX = xLogX;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Scored compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                ScoreGuesses left = new ScoreGuesses(group, candidates, isCandidate, xLogX, from, middle);
+                left.fork();
+                Scored right = new ScoreGuesses(group, candidates, isCandidate, xLogX, middle, to).compute();
+                return left.join().orBetter(right);
+            }
+            Scored best = null;
+            for (int guess = from; guess < to; guess++) {
+                Scored scored = new Scored(guess, group.entropy(guess, candidates, xLogX), isCandidate[guess]);
+                best = best == null ? scored : best.orBetter(scored);
+            }
+            return best;
+        }
+    }
+
+    /**
+     * @param guess Position of the guess in its group.
+     * @param entropy Expected information gain in bits.
+     * @param candidate Whether the guess may be the target itself.
+     */
+    private record Scored(int guess, double entropy, boolean candidate) {
+        /**
+         * Highest entropy first; on a tie a possible target (it may win right away), then the first word.
+         */
+        private Scored orBetter(Scored other) {
+            if (Math.abs(entropy - other.entropy) > EPSILON) {
+                return entropy > other.entropy ? this : other;
+            }
+            if (candidate != other.candidate) {
+                return candidate ? this : other;
+            }
+            return guess <= other.guess ? this : other;
+        }
+    }
+
+    private record GroupKey(int generation, String topic, int length) {
+    }
+
+    /**
+     * A suggested guess.
+     *
+     * @param word The word to guess.
+     * @param candidates How many words are still consistent with the previous guesses.
+     * @param expectedBits The expected information gain of the guess, in bits.
+     */
+    public record Hint(String word, int candidates, double expectedBits) {
+    }
+}
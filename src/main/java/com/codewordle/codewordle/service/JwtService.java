@@ -1,28 +1,49 @@
 package com.codewordle.codewordle.service;
 
+import com.codewordle.codewordle.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
  * Service dedicated to handling JSON Web Tokens (JWT).
  * Responsibilities include generating tokens, validating them, and extracting
  * information from them.
+ * <p>
+ * The signing key and parser are built once, and the claims of every verified token are
+ * cached until the token expires, so repeated requests with the same token skip the
+ * signature check entirely.
+ * <p>
+ * Tokens issued for a {@link User} also carry the user's id, name and role, so the
+ * authentication filter can rebuild the principal from the verified claims alone, and the
+ * user's token version, checked against {@link TokenRevocationService}.
  */
 @Service
 public class JwtService {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String NAME_CLAIM = "name";
+    private static final String ROLE_CLAIM = "role";
+    private static final String VERSION_CLAIM = "ver";
+
     // IMPORTANT: This secret key should be stored securely in application.properties
     // and not be hardcoded. It must be a long, complex string encoded in Base64.
     @Value("${application.security.jwt.secret-key}")
@@ -31,6 +52,38 @@ public class JwtService {
     @Value("${application.security.jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${application.security.jwt.claims-cache-size:10000}")
+    private long claimsCacheSize;
+
+    @Value("${application.security.jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    private Key signInKey;
+    private JwtParser jwtParser;
+    private Cache<String, Claims> verifiedClaims;
+
+    public JwtService(TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    /**
+     * Derives the signing key, builds the (thread-safe) parser and creates the verified-claims cache.
+     * Each cache entry lives until its token's expiration date, so an expired token is never served from it.
+     */
+    @PostConstruct
+    void init() {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(Expiry.creating((String token, Claims claims) -> timeToExpiration(claims)))
+                .build();
+    }
+
 
     /**
      * Extracts the username from a given JWT.
@@ -53,12 +106,45 @@ public class JwtService {
     }
 
     /**
-     * Generates a JWT for a given user without extra claims.
+     * Generates a JWT for a given user. When the user is one of our {@link User} entities,
+     * its id, name and role are embedded so the token is self-contained.
      * @param userDetails The user details for whom the token is being generated.
      * @return The generated JWT string.
      */
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(NAME_CLAIM, user.getName());
+            claims.put(ROLE_CLAIM, user.getRole());
+            claims.put(VERSION_CLAIM, tokenRevocationService.currentVersion(user.getId()));
+        }
+        return generateToken(claims, userDetails);
+    }
+
+    /**
+     * Builds a detached {@link User} principal from the verified claims of a token, without
+     * touching the database. Only the id, name, email and role are populated.
+     * @param token The JWT string.
+     * @return the principal, or an empty Optional if stateless principals are disabled or
+     *         the token predates the embedded claims.
+     */
+    public Optional<User> extractPrincipal(String token) {
+        if (!statelessPrincipal) {
+            return Optional.empty();
+        }
+        Claims claims = extractAllClaims(token);
+        Integer userId = claims.get(USER_ID_CLAIM, Integer.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return Optional.empty();
+        }
+        User user = new User();
+        user.setId(userId);
+        user.setName(claims.get(NAME_CLAIM, String.class));
+        user.setEmail(claims.getSubject());
+        user.setRole(role);
+        return Optional.of(user);
     }
 
     /**
@@ -80,14 +166,21 @@ public class JwtService {
     }
 
     /**
-     * Validates a token by checking if the username matches and if the token has not expired.
+     * Validates a token by checking if the username matches, if the token has not expired
+     * and, for tokens carrying a user id, if it has not been revoked.
      * @param token The JWT string to validate.
      * @param userDetails The user details to validate against.
      * @return {@code true} if the token is valid, {@code false} otherwise.
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token) && !isTokenRevoked(token);
+    }
+
+    private boolean isTokenRevoked(String token) {
+        Claims claims = extractAllClaims(token);
+        Integer userId = claims.get(USER_ID_CLAIM, Integer.class);
+        return userId != null && tokenRevocationService.isRevoked(userId, claims.get(VERSION_CLAIM, Integer.class));
     }
 
     private boolean isTokenExpired(String token) {
@@ -99,25 +192,27 @@ public class JwtService {
     }
 
     /**
-     * Parses the JWT to extract all its claims.
+     * Returns the verified claims of a token, parsing and checking its signature only the
+     * first time the token is seen. Invalid or expired tokens throw exactly as before and
+     * are never cached.
      * @param token The JWT string.
      * @return The Claims object containing the token's payload.
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return verifiedClaims.get(token, t -> jwtParser.parseClaimsJws(t).getBody());
+    }
+
+    private Duration timeToExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        long millis = expiration == null ? jwtExpiration : expiration.getTime() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(millis, 0));
     }
 
     /**
-     * Decodes the Base64 secret key and returns it as a Key object
-     * suitable for signing.
+     * Returns the signing key, derived once from the Base64 secret at startup.
      * @return The cryptographic Key for signing and validation.
      */
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signInKey;
     }
 }
\ No newline at end of file
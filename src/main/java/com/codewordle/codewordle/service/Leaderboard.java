@@ -0,0 +1,96 @@
+package com.codewordle.codewordle.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Ranking of players, kept sorted as their stats change.
+ * <p>
+ * Every player has exactly one entry in a skip list ordered by wins, then win rate, then fewer
+ * average attempts. An update replaces the player's entry in O(log n). After each update the
+ * first {@code size} entries are copied into an immutable list, so {@link #top()} is O(1)
+ * regardless of how many players there are. Updates of one player must be serialized by the caller,
+ * updates of different players may run concurrently; reads are lock-free.
+ */
+public class Leaderboard {
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingInt((Entry entry) -> entry.stats().won()).reversed()
+            .thenComparing(Comparator.comparingDouble((Entry entry) -> entry.stats().winRate()).reversed())
+            .thenComparingDouble(entry -> entry.stats().averageAttempts())
+            .thenComparingInt(Entry::userId);
+
+    private final int size;
+    private final NavigableSet<Entry> ranking = new ConcurrentSkipListSet<>(RANKING);
+    private final Map<Integer, Entry> entriesByUser = new ConcurrentHashMap<>();
+    private volatile List<Entry> top = List.of();
+
+    /**
+     * @param size Number of entries returned by {@link #top()}.
+     */
+    public Leaderboard(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Inserts or repositions a player.
+     * @param userId The player.
+     * @param userName The display name of the player.
+     * @param stats The player's new stats.
+     */
+    public void update(int userId, String userName, GameStats stats) {
+        Entry updated = new Entry(userId, userName, stats);
+        Entry previous = entriesByUser.put(userId, updated);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        ranking.add(updated);
+        if (previous == null || isRanked(previous) || isRanked(updated)) {
+            refreshTop();
+        }
+    }
+
+    /**
+     * @return the best {@code size} players, best first.
+     */
+    public List<Entry> top() {
+        return top;
+    }
+
+    private boolean isRanked(Entry entry) {
+        List<Entry> current = top;
+        return current.size() < size || RANKING.compare(entry, current.get(current.size() - 1)) <= 0;
+    }
+
+    /**
+     * Serialized, so a copy taken before a concurrent update never replaces one taken after it.
+     */
+    private synchronized void refreshTop() {
+        List<Entry> best = new ArrayList<>(size);
+        Iterator<Entry> iterator = ranking.iterator();
+        while (best.size() < size && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            // The iteration may meet the entry another thread is replacing: keep only current entries.
+            if (entriesByUser.get(entry.userId()) == entry) {
+                best.add(entry);
+            }
+        }
+        top = List.copyOf(best);
+    }
+
+    /**
+     * A player's position in the ranking.
+     *
+     * @param userId The player.
+     * @param userName The display name of the player.
+     * @param stats The player's stats.
+     */
+    public record Entry(int userId, String userName, GameStats stats) {
+    }
+}
@@ -0,0 +1,222 @@
+package com.codewordle.codewordle.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans Server-Sent Events out to the subscribers of each channel (a versus match).
+ * <p>
+ * A subscriber is an {@link SseEmitter} on an async request, so an idle connection holds no thread.
+ * Publishing never writes to a socket: it serializes the event once and queues it on the channel.
+ * A small shared pool ({@code codewordle.versus.broadcast-threads}) drains the queues, one drain at a
+ * time per channel, so each subscriber receives its channel's events in publish order and a slow
+ * client never delays the guess that produced the event. A subscriber whose write fails is dropped;
+ * browsers reconnect and get a fresh snapshot.
+ * <p>
+ * A comment is sent to every subscriber every {@code codewordle.versus.heartbeat-interval-ms}, which
+ * keeps proxies from closing idle streams and detects clients that went away.
+ */
+@Service
+public class MatchBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchBroadcaster.class);
+
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+    private final ExecutorService executor;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    public MatchBroadcaster(ObjectMapper objectMapper,
+                            @Value("${codewordle.versus.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                            @Value("${codewordle.versus.broadcast-threads:2}") int threads) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.executor = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("match-broadcast-", 0).daemon().factory());
+    }
+
+    /**
+     * Opens a stream on a channel. The initial event is sent before any event published afterwards.
+     *
+     * @param channelId The channel.
+     * @param name The name of the initial event.
+     * @param payload The initial event, serialized as JSON.
+     * @return the emitter to return from the controller.
+     */
+    public SseEmitter subscribe(String channelId, String name, Object payload) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Channel channel = channels.computeIfAbsent(channelId, Channel::new);
+        Runnable remove = () -> channel.emitters.remove(emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        channel.enqueue(new Message(name, toJson(payload), emitter));
+        return emitter;
+    }
+
+    /**
+     * Queues an event for every subscriber of a channel. Returns immediately.
+     *
+     * @param channelId The channel.
+     * @param name The event name.
+     * @param payload The event, serialized as JSON once for all subscribers.
+     */
+    public void publish(String channelId, String name, Object payload) {
+        Channel channel = channels.get(channelId);
+        if (channel != null) {
+            channel.enqueue(new Message(name, toJson(payload), null));
+        }
+    }
+
+    /**
+     * Ends every stream of a channel and forgets it. Channels live until they are closed, which the
+     * owner of the channel does when the match expires.
+     *
+     * @param channelId The channel.
+     */
+    public void close(String channelId) {
+        Channel channel = channels.remove(channelId);
+        if (channel != null) {
+            channel.enqueue(Message.CLOSE);
+        }
+    }
+
+    /**
+     * @return the number of open streams, all channels included.
+     */
+    public int subscriberCount() {
+        int count = 0;
+        for (Channel channel : channels.values()) {
+            count += channel.emitters.size();
+        }
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${codewordle.versus.heartbeat-interval-ms:20000}",
+            initialDelayString = "${codewordle.versus.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        channels.values().forEach(channel -> {
+            if (!channel.emitters.isEmpty()) {
+                channel.enqueue(Message.HEARTBEAT);
+            }
+        });
+    }
+
+    /**
+     * Ends every stream as soon as the application starts shutting down. The graceful shutdown of the
+     * web server waits for open requests, and an event stream would otherwise hold it until its timeout.
+     * Browsers reconnect to another instance.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        channels.keySet().forEach(this::close);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        closeAll();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param name The event name, or null for a heartbeat comment.
+     * @param data The JSON data.
+     * @param target The only subscriber to send it to, who then joins the channel; null for all subscribers.
+     */
+    private record Message(String name, String data, SseEmitter target) {
+        private static final Message HEARTBEAT = new Message(null, null, null);
+        private static final Message CLOSE = new Message(null, null, null);
+    }
+
+    /**
+     * The subscribers of one channel and its pending events. Only one drain runs at a time.
+     */
+    private final class Channel {
+        private final String id;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final Queue<Message> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Channel(String id) {
+            this.id = id;
+        }
+
+        private void enqueue(Message message) {
+            pending.add(message);
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            Message message;
+            while ((message = pending.poll()) != null) {
+                if (message == Message.CLOSE) {
+                    emitters.forEach(SseEmitter::complete);
+                    emitters.clear();
+                } else if (message.target() != null) {
+                    if (send(message.target(), message)) {
+                        emitters.add(message.target());
+                    }
+                } else {
+                    for (SseEmitter emitter : emitters) {
+                        if (!send(emitter, message)) {
+                            emitters.remove(emitter);
+                        }
+                    }
+                }
+            }
+            draining.set(false);
+            // An event queued after the last poll but before the flag was cleared still needs a drain.
+            if (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private boolean send(SseEmitter emitter, Message message) {
+            try {
+                emitter.send(message.name() == null
+                        ? SseEmitter.event().comment("heartbeat")
+                        : SseEmitter.event().name(message.name()).data(message.data(), MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the stream already ended.
+                log.debug("Dropping a subscriber of match {}: {}", id, e.toString());
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.dto.MatchPlayerResponse;
+import com.codewordle.codewordle.dto.MatchProgressEvent;
+import com.codewordle.codewordle.dto.MatchStateResponse;
+import com.codewordle.codewordle.event.GuessMadeEvent;
+import com.codewordle.codewordle.exception.ResourceNotFoundException;
+import com.codewordle.codewordle.model.FeedbackStatus;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versus mode: two or more players race on the same target word and see each other's colors live.
+ * <p>
+ * A match is created on a random word of a topic; every player who joins gets an ordinary game on
+ * that word, played through the usual guess endpoint. The service follows those games through the
+ * {@link GuessMadeEvent} and pushes the colors of each guess, never its letters, to the match's
+ * Server-Sent Event streams ({@link MatchBroadcaster}). Players can join until the first guess.
+ * <p>
+ * Matches live in memory only and expire {@code codewordle.versus.match-ttl} after their last use;
+ * their games stay in the database like any other game.
+ */
+@Service
+public class MatchService {
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String PLAYER_JOINED_EVENT = "player-joined";
+    static final String PROGRESS_EVENT = "progress";
+
+    private static final char[] CODE_ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789".toCharArray();
+    private static final int CODE_LENGTH = 8;
+
+    private final GameService gameService;
+    private final WordIndex wordIndex;
+    private final MatchBroadcaster broadcaster;
+    private final int maxPlayers;
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<String, Match> matches;
+    // Game id -> match, so the guesses of games outside any match are discarded with one lookup.
+    private final Map<Long, Match> matchesByGame = new ConcurrentHashMap<>();
+
+    public MatchService(GameService gameService, WordIndex wordIndex, MatchBroadcaster broadcaster,
+                        @Value("${codewordle.versus.max-players:8}") int maxPlayers,
+                        @Value("${codewordle.versus.max-matches:100000}") long maxMatches,
+                        @Value("${codewordle.versus.match-ttl:PT6H}") Duration matchTtl) {
+        this.gameService = gameService;
+        this.wordIndex = wordIndex;
+        this.broadcaster = broadcaster;
+        this.maxPlayers = maxPlayers;
+        this.matches = Caffeine.newBuilder()
+                .maximumSize(maxMatches)
+                .expireAfterAccess(matchTtl)
+                .removalListener((String id, Match match, RemovalCause cause) -> {
+                    if (match != null) {
+                        match.players.values().forEach(player -> matchesByGame.remove(player.gameId, match));
+                    }
+                    broadcaster.close(id);
+                })
+                .build();
+    }
+
+    /**
+     * Creates a match on a random word of a topic, with its creator as the first player.
+     *
+     * @param user The creator.
+     * @param topic The topic of the word.
+     * @return the state of the match, with the creator's game.
+     * @throws IllegalStateException if the user already has a game in progress.
+     * @throws IllegalArgumentException if no words are found for the topic.
+     */
+    public MatchStateResponse createMatch(User user, String topic) {
+        WordIndex.IndexedWord word = wordIndex.randomWord(topic)
+                .orElseThrow(() -> new IllegalArgumentException("No words found for the topic: " + topic));
+        Match match;
+        do {
+            match = new Match(newCode(), topic, word);
+        } while (matches.asMap().putIfAbsent(match.id, match) != null);
+        try {
+            return join(match, user);
+        } catch (RuntimeException e) {
+            matches.invalidate(match.id);
+            throw e;
+        }
+    }
+
+    /**
+     * Adds a player to a match. Joining a match one already plays returns its state again.
+     *
+     * @param matchId The match code.
+     * @param user The player.
+     * @return the state of the match, with the player's game.
+     * @throws ResourceNotFoundException if the match does not exist.
+     * @throws IllegalStateException if the match is full or started, or the user already has a game in progress.
+     */
+    public MatchStateResponse joinMatch(String matchId, User user) {
+        return join(find(matchId), user);
+    }
+
+    private MatchStateResponse join(Match match, User user) {
+        synchronized (match) {
+            if (match.players.containsKey(user.getId())) {
+                return match.toResponse(user.getId());
+            }
+            if (match.started) {
+                throw new IllegalStateException("The match has already started.");
+            }
+            if (match.players.size() >= maxPlayers) {
+                throw new IllegalStateException("The match is full.");
+            }
+            Game game = gameService.startGameWithWord(user, match.topic, match.word);
+            Player player = new Player(user.getId(), user.getName(), game.getId());
+            match.players.put(user.getId(), player);
+            matchesByGame.put(game.getId(), match);
+            // Published under the match lock, so streams see events in the order the match changed.
+            broadcaster.publish(match.id, PLAYER_JOINED_EVENT, player.toResponse());
+            return match.toResponse(user.getId());
+        }
+    }
+
+    /**
+     * @param matchId The match code.
+     * @param user A player of the match.
+     * @return the state of the match, with the player's game.
+     * @throws ResourceNotFoundException if the match does not exist.
+     * @throws SecurityException if the user does not play the match.
+     */
+    public MatchStateResponse getMatch(String matchId, User user) {
+        Match match = find(matchId);
+        synchronized (match) {
+            requirePlayer(match, user);
+            return match.toResponse(user.getId());
+        }
+    }
+
+    /**
+     * Opens the live stream of a match. It starts with a {@value #SNAPSHOT_EVENT} event holding the
+     * whole state, followed by {@value #PLAYER_JOINED_EVENT} and {@value #PROGRESS_EVENT} events.
+     *
+     * @param matchId The match code.
+     * @param user A player of the match.
+     * @return the emitter of the stream.
+     * @throws ResourceNotFoundException if the match does not exist.
+     * @throws SecurityException if the user does not play the match.
+     */
+    public SseEmitter subscribe(String matchId, User user) {
+        Match match = find(matchId);
+        synchronized (match) {
+            requirePlayer(match, user);
+            return broadcaster.subscribe(match.id, SNAPSHOT_EVENT, match.toResponse(user.getId()));
+        }
+    }
+
+    /**
+     * Pushes the colors of a guess to the match of its game, if any, once the guess is committed.
+     * @param event The guess event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGuessMade(GuessMadeEvent event) {
+        Match match = matchesByGame.get(event.gameId());
+        if (match == null) {
+            return;
+        }
+        synchronized (match) {
+            Player player = match.players.get(event.userId());
+            if (player == null || player.gameId != event.gameId() || player.rows.size() >= event.attempts()) {
+                return;
+            }
+            List<FeedbackStatus> colors = new ArrayList<>(event.guess().length());
+            for (int i = 0; i < event.guess().length(); i++) {
+                colors.add(FeedbackEngine.status(event.feedback(), i));
+            }
+            player.rows.add(List.copyOf(colors));
+            player.status = event.status();
+            match.started = true;
+            if (event.status() == GameStatus.WON && match.winner == null) {
+                match.winner = player.name;
+            }
+            broadcaster.publish(match.id, PROGRESS_EVENT, new MatchProgressEvent(player.userId, player.name,
+                    event.attempts(), player.rows.getLast(), player.status, match.winner));
+        }
+    }
+
+    private Match find(String matchId) {
+        Match match = matchId == null ? null : matches.getIfPresent(matchId.toUpperCase(Locale.ROOT));
+        if (match == null) {
+            throw new ResourceNotFoundException("Match not found: " + matchId);
+        }
+        return match;
+    }
+
+    private static void requirePlayer(Match match, User user) {
+        if (!match.players.containsKey(user.getId())) {
+            throw new SecurityException("User does not play this match.");
+        }
+    }
+
+    private String newCode() {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = 0; i < code.length; i++) {
+            code[i] = CODE_ALPHABET[random.nextInt(CODE_ALPHABET.length)];
+        }
+        return new String(code);
+    }
+
+    /**
+     * One match. Its mutable state is guarded by the match's monitor.
+     */
+    private static final class Match {
+        private final String id;
+        private final String topic;
+        private final WordIndex.IndexedWord word;
+        // Player id -> player, in joining order.
+        private final Map<Integer, Player> players = new LinkedHashMap<>();
+        private boolean started;
+        private String winner;
+
+        private Match(String id, String topic, WordIndex.IndexedWord word) {
+            this.id = id;
+            this.topic = topic;
+            this.word = word;
+        }
+
+        private MatchStateResponse toResponse(int viewerId) {
+            Player viewer = players.get(viewerId);
+            List<MatchPlayerResponse> progress = players.values().stream().map(Player::toResponse).toList();
+            return new MatchStateResponse(id, topic, word.text().length(), GameService.MAX_ATTEMPTS,
+                    viewer == null ? null : viewer.gameId, progress, winner);
+        }
+    }
+
+    private static final class Player {
+        private final int userId;
+        private final String name;
+        private final long gameId;
+        private final List<List<FeedbackStatus>> rows = new ArrayList<>();
+        private GameStatus status = GameStatus.IN_PROGRESS;
+
+        private Player(int userId, String name, long gameId) {
+            this.userId = userId;
+            this.name = name;
+            this.gameId = gameId;
+        }
+
+        private MatchPlayerResponse toResponse() {
+            return new MatchPlayerResponse(userId, name, List.copyOf(rows), status);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.dto.LeaderboardEntryResponse;
+import com.codewordle.codewordle.dto.StatsResponse;
+import com.codewordle.codewordle.dto.UserStatsResponse;
+import com.codewordle.codewordle.event.GuessMadeEvent;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.repository.GameRepository;
+import com.codewordle.codewordle.repository.StatsSnapshotRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Player and topic statistics with in-memory leaderboards, updated incrementally.
+ * <p>
+ * Aggregates are updated once per finished game, from the {@link GuessMadeEvent} of the deciding
+ * guess, so reads never scan the games or guesses tables. Aggregates are immutable and replaced on
+ * update, and leaderboards keep a copy of their top entries, so every read is a map lookup. Games of
+ * different players are recorded concurrently; only a snapshot stops recording, for as long as it
+ * takes to copy the state.
+ * <p>
+ * The whole state is saved as a snapshot at a fixed interval and on shutdown. At startup the
+ * snapshot is loaded and only the games finished after it are replayed from the database (all
+ * games if there is no snapshot). Game ids counted during the replay window are part of the
+ * snapshot, so no game is counted twice.
+ */
+@Service
+public class StatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsService.class);
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final int leaderboardSize;
+    private final Duration replayWindow;
+    private final GameRepository gameRepository;
+    private final StatsSnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Map<Integer, PlayerStats> players = new ConcurrentHashMap<>();
+    private final Map<String, GameStats> topics = new ConcurrentHashMap<>();
+    private final Leaderboard leaderboard;
+    private final Map<String, Leaderboard> topicLeaderboards = new ConcurrentHashMap<>();
+    // Games counted recently, by end time; pruned to the replay window when a snapshot is taken.
+    private final Map<Long, LocalDateTime> recentGames = new ConcurrentHashMap<>();
+    // Games are recorded under the read lock, so games of different players are counted in parallel;
+    // a snapshot takes the write lock to copy a consistent state.
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private volatile boolean dirty;
+
+    public StatsService(@Value("${codewordle.stats.leaderboard-size:10}") int leaderboardSize,
+                        @Value("${codewordle.stats.replay-window-minutes:5}") long replayWindowMinutes,
+                        GameRepository gameRepository,
+                        StatsSnapshotRepository snapshotRepository,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager) {
+        this.leaderboardSize = leaderboardSize;
+        this.replayWindow = Duration.ofMinutes(replayWindowMinutes);
+        this.gameRepository = gameRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.leaderboard = new Leaderboard(leaderboardSize);
+    }
+
+    /**
+     * Restores the latest snapshot and replays the games finished after it.
+     */
+    @PostConstruct
+    void load() {
+        LocalDateTime since = BEGINNING;
+        Optional<String> payload = snapshotRepository.findLatest();
+        if (payload.isPresent()) {
+            Snapshot snapshot = readSnapshot(payload.get());
+            restore(snapshot);
+            since = snapshot.takenAt().minus(replayWindow);
+        }
+        LocalDateTime replaySince = since;
+        int replayed = readOnlyTransactionTemplate.execute(status -> {
+            try (Stream<GameRepository.FinishedGame> games =
+                         gameRepository.streamFinishedSince(replaySince, GameStatus.IN_PROGRESS)) {
+                int[] count = new int[1];
+                games.forEach(game -> {
+                    if (record(game.getId(), game.getUserId(), game.getUserName(), game.getTopic(),
+                            game.getStatus(), game.getAttempts(), game.getEndTime())) {
+                        count[0]++;
+                    }
+                });
+                return count[0];
+            }
+        });
+        log.info("Stats loaded: {} players, {} topics ({} games replayed)", players.size(), topics.size(), replayed);
+    }
+
+    /**
+     * Counts a game once its deciding guess has been committed.
+     * @param event The guess event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGuessMade(GuessMadeEvent event) {
+        if (event.isFinished()) {
+            record(event.gameId(), event.userId(), event.userName(), event.topic(), event.status(),
+                    event.attempts(), event.timestamp());
+        }
+    }
+
+    /**
+     * Adds a finished game to the player, topic and leaderboard aggregates: O(log n) in the number of players.
+     * Only games of the same player, or of the same topic, wait for each other.
+     * @return false if the game had already been counted.
+     */
+    boolean record(long gameId, int userId, String userName, String topic,
+                   GameStatus status, int attempts, LocalDateTime endTime) {
+        Lock lock = stateLock.readLock();
+        lock.lock();
+        try {
+            if (recentGames.putIfAbsent(gameId, endTime) != null) {
+                return false;
+            }
+            GameStats empty = GameStats.empty(GameService.MAX_ATTEMPTS);
+            // compute() serializes the games of one player, and the player's leaderboard updates with them.
+            players.compute(userId, (id, previous) -> {
+                Map<String, GameStats> byTopic = previous == null ? new HashMap<>() : new HashMap<>(previous.byTopic());
+                GameStats topicStats = byTopic.getOrDefault(topic, empty).record(status, attempts);
+                byTopic.put(topic, topicStats);
+                GameStats overall = (previous == null ? empty : previous.overall()).record(status, attempts);
+                leaderboard.update(userId, userName, overall);
+                topicLeaderboards.computeIfAbsent(topic, t -> new Leaderboard(leaderboardSize))
+                        .update(userId, userName, topicStats);
+                return new PlayerStats(userId, userName, overall, Map.copyOf(byTopic));
+            });
+            topics.merge(topic, empty.record(status, attempts), (current, ignored) -> current.record(status, attempts));
+            dirty = true;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Saves the current state if it changed since the last snapshot.
+     */
+    @Scheduled(fixedDelayString = "${codewordle.stats.snapshot-interval-ms:60000}",
+            initialDelayString = "${codewordle.stats.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        Snapshot snapshot;
+        Lock lock = stateLock.writeLock();
+        lock.lock();
+        try {
+            if (!dirty) {
+                return;
+            }
+            LocalDateTime takenAt = LocalDateTime.now();
+            LocalDateTime windowStart = takenAt.minus(replayWindow);
+            recentGames.values().removeIf(endTime -> endTime.isBefore(windowStart));
+            snapshot = new Snapshot(takenAt, List.copyOf(players.values()), Map.copyOf(topics),
+                    Set.copyOf(recentGames.keySet()));
+            dirty = false;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            snapshotRepository.save(snapshot.takenAt(), objectMapper.writeValueAsString(snapshot));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Could not save the stats snapshot", e);
+            dirty = true;
+        }
+    }
+
+    @PreDestroy
+    void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    /**
+     * @param userId The player.
+     * @return the player's statistics, or an empty Optional if the player has not finished a game.
+     */
+    public Optional<UserStatsResponse> getUserStats(int userId) {
+        PlayerStats stats = players.get(userId);
+        if (stats == null) {
+            return Optional.empty();
+        }
+        Map<String, StatsResponse> byTopic = new TreeMap<>();
+        stats.byTopic().forEach((topic, topicStats) -> byTopic.put(topic, StatsResponse.from(topicStats)));
+        return Optional.of(new UserStatsResponse(stats.userId(), stats.userName(),
+                StatsResponse.from(stats.overall()), byTopic));
+    }
+
+    /**
+     * @param topic The topic.
+     * @return the statistics of all games of the topic, or an empty Optional if none has finished.
+     */
+    public Optional<StatsResponse> getTopicStats(String topic) {
+        return Optional.ofNullable(topics.get(topic)).map(StatsResponse::from);
+    }
+
+    /**
+     * @return the best players over all topics.
+     */
+    public List<LeaderboardEntryResponse> getLeaderboard() {
+        return toResponse(leaderboard.top());
+    }
+
+    /**
+     * @param topic The topic.
+     * @return the best players of the topic (empty for unknown topics).
+     */
+    public List<LeaderboardEntryResponse> getLeaderboard(String topic) {
+        Leaderboard topicLeaderboard = topicLeaderboards.get(topic);
+        return topicLeaderboard == null ? List.of() : toResponse(topicLeaderboard.top());
+    }
+
+    private static List<LeaderboardEntryResponse> toResponse(List<Leaderboard.Entry> entries) {
+        List<LeaderboardEntryResponse> response = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            Leaderboard.Entry entry = entries.get(i);
+            GameStats stats = entry.stats();
+            response.add(new LeaderboardEntryResponse(i + 1, entry.userId(), entry.userName(), stats.won(),
+                    stats.played(), stats.winRate(), stats.maxStreak(), stats.averageAttempts()));
+        }
+        return response;
+    }
+
+    private void restore(Snapshot snapshot) {
+        Lock lock = stateLock.writeLock();
+        lock.lock();
+        try {
+            for (PlayerStats stats : snapshot.players()) {
+                players.put(stats.userId(), stats);
+                leaderboard.update(stats.userId(), stats.userName(), stats.overall());
+                stats.byTopic().forEach((topic, topicStats) ->
+                        topicLeaderboards.computeIfAbsent(topic, t -> new Leaderboard(leaderboardSize))
+                                .update(stats.userId(), stats.userName(), topicStats));
+            }
+            topics.putAll(snapshot.topics());
+            snapshot.recentGameIds().forEach(id -> recentGames.put(id, snapshot.takenAt()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot readSnapshot(String payload) {
+        try {
+            return objectMapper.readValue(payload, Snapshot.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("The stats snapshot could not be read", e);
+        }
+    }
+
+    /**
+     * Statistics of one player.
+     *
+     * @param userId The player.
+     * @param userName The display name of the player.
+     * @param overall The player's games over all topics.
+     * @param byTopic The player's games per topic.
+     */
+    record PlayerStats(int userId, String userName, GameStats overall, Map<String, GameStats> byTopic) {
+    }
+
+    /**
+     * The persisted state.
+     *
+     * @param takenAt When the snapshot was taken.
+     * @param players Every player's statistics.
+     * @param topics Every topic's statistics.
+     * @param recentGameIds Games that finished within the replay window before {@code takenAt}.
+     */
+    record Snapshot(LocalDateTime takenAt, List<PlayerStats> players, Map<String, GameStats> topics,
+                    Set<Long> recentGameIds) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.codewordle.codewordle.service;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed array of locks shared by many keys: each key always maps to the same lock, so work on one
+ * key is serialized while unrelated keys rarely wait for each other, and memory does not grow with
+ * the number of keys. {@link ReentrantLock} rather than monitors, because the locks are held across
+ * database transactions and must not pin virtual threads.
+ */
+final class StripedLocks {
+
+    private final ReentrantLock[] locks;
+
+    /**
+     * @param stripes The number of locks, rounded up to a power of two.
+     */
+    StripedLocks(int stripes) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * @param key The key.
+     * @return the lock of the key.
+     */
+    ReentrantLock get(long key) {
+        // Spread the bits: consecutive ids should not only differ in the low stripes.
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return locks[(int) (hash >>> 32) & (locks.length - 1)];
+    }
+}
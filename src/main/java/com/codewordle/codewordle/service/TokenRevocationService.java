@@ -0,0 +1,48 @@
+package com.codewordle.codewordle.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a per-user token version in memory: every token carries the version current when it was
+ * issued, and tokens of an older version are rejected.
+ * This lets tokens be validated from their own claims, without a database lookup,
+ * while still allowing all sessions of a user to be invalidated (e.g. on logout).
+ * <p>
+ * A version rather than a cut-off time, because token issue dates have second precision: a token
+ * issued in the same second as the revocation could not be told apart from the revoked ones.
+ * <p>
+ * The versions are not persisted, so a restart forgets them.
+ */
+@Service
+public class TokenRevocationService {
+
+    private final Map<Integer, Integer> versionByUserId = new ConcurrentHashMap<>();
+
+    /**
+     * Revokes every token issued to the user up to now; tokens issued afterwards stay valid.
+     * @param userId The id of the user.
+     */
+    public void revokeAll(int userId) {
+        versionByUserId.merge(userId, 1, Integer::sum);
+    }
+
+    /**
+     * @param userId The id of the user.
+     * @return the version to embed in a token issued to the user now.
+     */
+    public int currentVersion(int userId) {
+        return versionByUserId.getOrDefault(userId, 0);
+    }
+
+    /**
+     * @param userId The id of the user the token belongs to.
+     * @param version The version embedded in the token, null for tokens that predate versions.
+     * @return {@code true} if the token was issued before the user's last revocation.
+     */
+    public boolean isRevoked(int userId, Integer version) {
+        return (version == null ? 0 : version) < currentVersion(userId);
+    }
+}
@@ -0,0 +1,209 @@
+package com.codewordle.codewordle.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The words accepted as guesses: a bundled word list ({@code codewordle.dictionary.resource})
+ * plus the words of every topic.
+ * <p>
+ * Words of up to {@value #MAX_PACKED_LENGTH} letters A-Z are packed into a {@code long}, 5 bits per
+ * letter, and kept in an open-addressing hash table of longs. A lookup packs the guess in one
+ * pass, ignoring case, and probes the table, so it is O(word length) and allocates nothing.
+ * The few words that cannot be packed (digits, accents, longer words) live in a plain set.
+ * <p>
+ * The bundled list is read once at startup. The dictionary is rebuilt by the first lookup after
+ * the {@link WordIndex} changed, so new topic words are accepted right away; a rebuild swaps
+ * the whole table at once.
+ */
+@Service
+public class WordDictionary {
+
+    /** The longest word that fits in a packed {@code long}. */
+    static final int MAX_PACKED_LENGTH = Long.SIZE / 5;
+
+    private static final Logger log = LoggerFactory.getLogger(WordDictionary.class);
+
+    private final boolean enabled;
+    private final Resource resource;
+    private final WordIndex wordIndex;
+
+    private List<String> bundledWords = List.of();
+    private volatile Words words = new Words(new long[1], Set.of(), 0, -1);
+
+    public WordDictionary(@Value("${codewordle.dictionary.enabled:true}") boolean enabled,
+                          @Value("${codewordle.dictionary.resource:classpath:dictionary/allowed-words.txt}") Resource resource,
+                          WordIndex wordIndex) {
+        this.enabled = enabled;
+        this.resource = resource;
+        this.wordIndex = wordIndex;
+    }
+
+    /**
+     * Reads the bundled word list and builds the dictionary.
+     */
+    @PostConstruct
+    void load() {
+        if (!enabled) {
+            return;
+        }
+        bundledWords = readResource();
+        Words loaded = rebuild();
+        log.info("Dictionary loaded: {} bundled words, {} in total", bundledWords.size(), loaded.size());
+    }
+
+    /**
+     * Combines the bundled words with the current topic words and atomically replaces the dictionary.
+     */
+    private synchronized Words rebuild() {
+        Words current = words;
+        int generation = wordIndex.generation();
+        if (current.generation() == generation) {
+            return current;
+        }
+        List<String> allowed = new ArrayList<>(bundledWords);
+        for (String topic : wordIndex.topicSizes().keySet()) {
+            WordPack.TopicWords topicWords = wordIndex.wordsOf(topic);
+            for (int i = 0; topicWords != null && i < topicWords.size(); i++) {
+                allowed.add(topicWords.text(i));
+            }
+        }
+        Words rebuilt = build(allowed, generation);
+        this.words = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * @param word The word to look up, in any case.
+     * @return true if the word may be guessed, always true when the dictionary is disabled.
+     */
+    public boolean contains(String word) {
+        if (!enabled) {
+            return true;
+        }
+        Words current = words;
+        if (current.generation() != wordIndex.generation()) {
+            current = rebuild();
+        }
+        long packed = pack(word);
+        if (packed != 0) {
+            long[] table = current.table();
+            int mask = table.length - 1;
+            for (int slot = hash(packed) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+                if (table[slot] == packed) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return !current.unpacked().isEmpty() && current.unpacked().contains(word.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * @return the number of distinct words in the dictionary.
+     */
+    public int size() {
+        return words.size();
+    }
+
+    /**
+     * Packs a word of letters A-Z, case-insensitively, 5 bits per letter starting at 1 for A,
+     * so no two words share a value and 0 is free to mark empty slots.
+     * @return the packed word, or 0 if it is empty, too long or has other characters.
+     */
+    static long pack(CharSequence word) {
+        int length = word.length();
+        if (length == 0 || length > MAX_PACKED_LENGTH) {
+            return 0;
+        }
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            int letter;
+            if (c >= 'A' && c <= 'Z') {
+                letter = c - 'A' + 1;
+            } else if (c >= 'a' && c <= 'z') {
+                letter = c - 'a' + 1;
+            } else {
+                return 0;
+            }
+            packed = packed << 5 | letter;
+        }
+        return packed;
+    }
+
+    private static int hash(long packed) {
+        long h = packed * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static Words build(List<String> allowed, int generation) {
+        List<Long> packedWords = new ArrayList<>(allowed.size());
+        Set<String> unpacked = new HashSet<>();
+        for (String word : allowed) {
+            long packed = pack(word);
+            if (packed != 0) {
+                packedWords.add(packed);
+            } else if (!word.isEmpty()) {
+                unpacked.add(word.toUpperCase(Locale.ROOT));
+            }
+        }
+        // At most half full, so probe sequences stay short.
+        int capacity = Integer.highestOneBit(Math.max(packedWords.size(), 1) * 2) * 2;
+        long[] table = new long[capacity];
+        int mask = capacity - 1;
+        int distinct = 0;
+        for (long packed : packedWords) {
+            int slot = hash(packed) & mask;
+            while (table[slot] != 0 && table[slot] != packed) {
+                slot = (slot + 1) & mask;
+            }
+            if (table[slot] == 0) {
+                table[slot] = packed;
+                distinct++;
+            }
+        }
+        return new Words(table, Set.copyOf(unpacked), distinct + unpacked.size(), generation);
+    }
+
+    private List<String> readResource() {
+        List<String> allowed = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    allowed.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("The dictionary could not be read from " + resource, e);
+        }
+        return allowed;
+    }
+
+    /**
+     * @param table Open-addressing table of packed words, 0 marks an empty slot. Length is a power of two.
+     * @param unpacked Uppercase words that cannot be packed.
+     * @param size Number of distinct words.
+     * @param generation The {@link WordIndex#generation()} the topic words were taken from.
+     */
+    private record Words(long[] table, Set<String> unpacked, int size, int generation) {
+    }
+}
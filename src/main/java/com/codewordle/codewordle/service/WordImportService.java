@@ -0,0 +1,324 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.dto.WordImportResponse;
+import com.codewordle.codewordle.event.WordsChangedEvent;
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.WordRepository;
+import com.codewordle.codewordle.repository.WordsVersionRepository;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk import of words from CSV ({@code text,topic}) or NDJSON ({@code {"text":..,"topic":..}}) streams.
+ * <p>
+ * The input is read line by line, so only the current batch is held in memory, never the whole file.
+ * Texts are normalized to uppercase like guesses and must consist of letters only; other lines are
+ * rejected and counted. Words are written in batches of {@code codewordle.words.import.batch-size},
+ * one transaction and one JDBC batch per batch, and the persistence context is cleared after each one.
+ * Before a batch is written, words repeated within it or already in the database (including earlier
+ * batches) are skipped with a single query.
+ * <p>
+ * Every batch that writes words bumps the words version in the same transaction. At the end a
+ * {@link WordsChangedEvent} is published so the in-memory word structures rebuild, even if a batch
+ * failed after others were committed.
+ */
+@Service
+public class WordImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(WordImportService.class);
+    // The words table stores texts and topics as VARCHAR(255).
+    private static final int MAX_TOPIC_LENGTH = 255;
+    private static final Pattern LETTERS = Pattern.compile("\\p{L}+");
+
+    private final int batchSize;
+    private final long progressInterval;
+    private final WordRepository wordRepository;
+    private final WordsVersionRepository wordsVersionRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader ndjsonReader;
+
+    public WordImportService(@Value("${codewordle.words.import.batch-size:1000}") int batchSize,
+                             @Value("${codewordle.words.import.progress-interval:100000}") long progressInterval,
+                             WordRepository wordRepository,
+                             WordsVersionRepository wordsVersionRepository,
+                             EntityManager entityManager,
+                             ApplicationEventPublisher eventPublisher,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.batchSize = batchSize;
+        this.progressInterval = progressInterval;
+        this.wordRepository = wordRepository;
+        this.wordsVersionRepository = wordsVersionRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ndjsonReader = objectMapper.readerFor(WordLine.class);
+    }
+
+    /**
+     * Imports lines of the form {@code text,topic}. A first line {@code text,topic} or {@code word,topic}
+     * is treated as a header. Fields may be wrapped in double quotes, with {@code ""} for a quote and
+     * commas allowed inside; a quoted field cannot span lines. Malformed lines, or lines with more than
+     * two fields, are rejected.
+     *
+     * @param input The CSV stream, UTF-8. It is not closed.
+     * @param defaultTopic The topic of lines that have none, may be null.
+     * @return the import report.
+     */
+    public WordImportResponse importCsv(InputStream input, String defaultTopic) {
+        return importLines(input, defaultTopic, (line, lineNumber) -> {
+            List<String> fields = parseCsvLine(line);
+            if (fields == null || fields.size() > 2) {
+                return WordLine.MALFORMED;
+            }
+            String text = fields.get(0);
+            String topic = fields.size() < 2 ? null : fields.get(1);
+            if (lineNumber == 1 && (text.equalsIgnoreCase("text") || text.equalsIgnoreCase("word"))
+                    && "topic".equalsIgnoreCase(topic)) {
+                return null;
+            }
+            return new WordLine(text, topic);
+        });
+    }
+
+    /**
+     * Imports one JSON object per line with a {@code text} (or {@code word}) and an optional {@code topic}.
+     *
+     * @param input The NDJSON stream, UTF-8. It is not closed.
+     * @param defaultTopic The topic of objects that have none, may be null.
+     * @return the import report.
+     */
+    public WordImportResponse importNdjson(InputStream input, String defaultTopic) {
+        return importLines(input, defaultTopic, (line, lineNumber) -> {
+            try {
+                return ndjsonReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                return WordLine.MALFORMED;
+            }
+        });
+    }
+
+    private WordImportResponse importLines(InputStream input, String defaultTopic, LineParser parser) {
+        Batch batch = new Batch(defaultTopic == null ? null : defaultTopic.strip());
+        WordImportResponse response;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                batch.linesRead++;
+                if (!line.isBlank()) {
+                    WordLine parsed = parser.parse(line.strip(), batch.linesRead);
+                    if (parsed != null) {
+                        batch.add(parsed);
+                    }
+                }
+                if (batch.linesRead % progressInterval == 0) {
+                    log.info("Word import: {} lines read, {} words imported ({} words/s)",
+                            batch.linesRead, batch.imported, Math.round(batch.wordsPerSecond()));
+                }
+            }
+            batch.write();
+            response = batch.toResponse();
+        } catch (IOException e) {
+            throw new UncheckedIOException("The word list could not be read", e);
+        } finally {
+            if (batch.imported > 0) {
+                eventPublisher.publishEvent(new WordsChangedEvent("import"));
+            }
+        }
+        log.info("Word import finished: {} lines read, {} imported, {} duplicates, {} rejected in {} ms ({} words/s)",
+                response.getLinesRead(), response.getImported(), response.getDuplicates(), response.getRejected(),
+                response.getElapsedMillis(), Math.round(response.getWordsPerSecond()));
+        return response;
+    }
+
+    /**
+     * Splits a CSV line into its fields, unquoted and stripped.
+     * @return the fields, or null if the line is malformed: an unterminated quoted field, text after
+     *         a closing quote, or a quote inside an unquoted field.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>(2);
+        int length = line.length();
+        int i = 0;
+        while (true) {
+            while (i < length && Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            StringBuilder field = new StringBuilder();
+            if (i < length && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        return null;
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < length && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                while (i < length && Character.isWhitespace(line.charAt(i))) {
+                    i++;
+                }
+                if (i < length && line.charAt(i) != ',') {
+                    return null;
+                }
+            } else {
+                int comma = line.indexOf(',', i);
+                int end = comma < 0 ? length : comma;
+                String value = line.substring(i, end);
+                if (value.indexOf('"') >= 0) {
+                    return null;
+                }
+                field.append(value);
+                i = end;
+            }
+            fields.add(field.toString().strip());
+            if (i >= length) {
+                return fields;
+            }
+            // Skip the comma.
+            i++;
+        }
+    }
+
+    /**
+     * The words of one import: the pending batch and the counters.
+     */
+    private final class Batch {
+        private final String defaultTopic;
+        private final long startNanos = System.nanoTime();
+        private final List<Word> pending = new ArrayList<>(batchSize);
+        private long linesRead;
+        private long imported;
+        private long duplicates;
+        private long rejected;
+
+        private Batch(String defaultTopic) {
+            this.defaultTopic = defaultTopic;
+        }
+
+        private void add(WordLine line) {
+            String text = line.text() == null ? "" : line.text().strip().toUpperCase(Locale.ROOT);
+            String topic = line.topic() == null || line.topic().isBlank() ? defaultTopic : line.topic().strip();
+            if (text.isEmpty() || text.length() > FeedbackEngine.MAX_LENGTH || !LETTERS.matcher(text).matches()
+                    || topic == null || topic.isEmpty() || topic.length() > MAX_TOPIC_LENGTH) {
+                rejected++;
+                return;
+            }
+            Word word = new Word();
+            word.setText(text);
+            word.setTopic(topic);
+            pending.add(word);
+            if (pending.size() >= batchSize) {
+                write();
+            }
+        }
+
+        private void write() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            int[] written = new int[1];
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Word> words = withoutDuplicates();
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                wordRepository.saveAll(words);
+                if (!words.isEmpty()) {
+                    wordsVersionRepository.increment();
+                }
+                entityManager.flush();
+                entityManager.clear();
+                written[0] = words.size();
+            });
+            imported += written[0];
+            duplicates += pending.size() - written[0];
+            pending.clear();
+        }
+
+        /**
+         * @return the pending words that are neither repeated earlier in the batch nor in the database.
+         */
+        private List<Word> withoutDuplicates() {
+            Set<String> topics = new HashSet<>();
+            Set<String> texts = new HashSet<>();
+            for (Word word : pending) {
+                topics.add(word.getTopic());
+                texts.add(word.getText());
+            }
+            Map<String, Set<String>> seen = new HashMap<>();
+            for (WordRepository.WordKey existing : wordRepository.findExisting(topics, texts)) {
+                seen.computeIfAbsent(existing.getTopic(), topic -> new HashSet<>()).add(existing.getText());
+            }
+            List<Word> words = new ArrayList<>(pending.size());
+            for (Word word : pending) {
+                if (seen.computeIfAbsent(word.getTopic(), topic -> new HashSet<>()).add(word.getText())) {
+                    words.add(word);
+                }
+            }
+            return words;
+        }
+
+        private double wordsPerSecond() {
+            long elapsed = System.nanoTime() - startNanos;
+            return elapsed == 0 ? 0 : imported / (elapsed / 1e9);
+        }
+
+        private WordImportResponse toResponse() {
+            return new WordImportResponse(linesRead, imported, duplicates, rejected,
+                    (System.nanoTime() - startNanos) / 1_000_000, wordsPerSecond());
+        }
+    }
+
+    @FunctionalInterface
+    private interface LineParser {
+        /**
+         * @return the parsed line, or null if the line must be skipped without counting it (a header).
+         */
+        WordLine parse(String line, long lineNumber);
+    }
+
+    /**
+     * One input record.
+     *
+     * @param text The word, in any case.
+     * @param topic The topic, or null to use the default topic.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record WordLine(@JsonAlias("word") String text, String topic) {
+        private static final WordLine MALFORMED = new WordLine(null, null);
+    }
+}
@@ -0,0 +1,199 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.event.WordsChangedEvent;
+import com.codewordle.codewordle.repository.WordRepository;
+import com.codewordle.codewordle.repository.WordsVersionRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Index of the words table, grouped by topic, backed by a memory-mapped {@link WordPack}.
+ * Picking a random target word for a new game is a read from the mapped file instead of a
+ * database query, and the words take no heap space.
+ * <p>
+ * At startup the pack file ({@code codewordle.words.pack-path}) is reused if it was generated
+ * from the current table contents (same {@link WordsVersionRepository words version}, word count and
+ * highest id), so no word is read through JPA. Otherwise, and whenever a {@link WordsChangedEvent} is published, the pack is regenerated
+ * by streaming the table into a new file that then replaces the old one. A rebuild swaps the
+ * whole pack at once, so readers never observe a half-built index.
+ * <p>
+ * The words version is bumped by the application's own writes. Words edited outside the application
+ * with the same count and highest id go unnoticed: bump {@code words_version} as well, or delete the
+ * pack file, so it is regenerated.
+ */
+@Service
+public class WordIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(WordIndex.class);
+
+    private final Path packPath;
+    private final WordRepository wordRepository;
+    private final WordsVersionRepository wordsVersionRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private volatile WordPack pack = WordPack.EMPTY;
+    private final AtomicInteger generation = new AtomicInteger();
+
+    public WordIndex(@Value("${codewordle.words.pack-path:data/words.pack}") Path packPath,
+                     WordRepository wordRepository,
+                     WordsVersionRepository wordsVersionRepository,
+                     PlatformTransactionManager transactionManager) {
+        this.packPath = packPath.toAbsolutePath();
+        this.wordRepository = wordRepository;
+        this.wordsVersionRepository = wordsVersionRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Maps the existing pack if it matches the words table, or generates a new one.
+     */
+    @PostConstruct
+    void load() {
+        if (Files.exists(packPath)) {
+            try {
+                WordPack existing = WordPack.open(packPath);
+                long maxId = wordRepository.findMaxId().orElse(0L);
+                if (existing.wordsVersion() == wordsVersionRepository.current()
+                        && existing.wordCount() == wordRepository.count() && existing.maxWordId() == maxId) {
+                    swap(existing, "reused " + packPath);
+                    return;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Word pack {} could not be reused, regenerating it", packPath, e);
+            }
+        }
+        refresh();
+    }
+
+    /**
+     * Regenerates the pack from the database and atomically replaces the current index.
+     */
+    public synchronized void refresh() {
+        Path temporary;
+        try {
+            Files.createDirectories(packPath.getParent());
+            temporary = Files.createTempFile(packPath.getParent(), packPath.getFileName().toString(), ".tmp");
+            Files.delete(temporary);
+        } catch (IOException e) {
+            throw new UncheckedIOException("The word pack could not be created in " + packPath.getParent(), e);
+        }
+        readOnlyTransactionTemplate.executeWithoutResult(status -> writePack(temporary));
+        Path written = packPath;
+        try {
+            // A rename never disturbs readers of the old file: its mapping stays valid until released.
+            Files.move(temporary, packPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // Some platforms refuse to replace a mapped file; serve the new pack from its temporary name.
+            log.warn("Word pack {} could not be replaced, using {}", packPath, temporary, e);
+            temporary.toFile().deleteOnExit();
+            written = temporary;
+        }
+        try {
+            swap(WordPack.open(written), "generated " + written);
+        } catch (IOException e) {
+            throw new UncheckedIOException("The word pack could not be read from " + written, e);
+        }
+    }
+
+    private void writePack(Path path) {
+        // Read before the words: a write committed meanwhile leaves the pack with an older version.
+        try (WordPack.Writer writer = new WordPack.Writer(path, wordsVersionRepository.current());
+             Stream<WordRepository.WordSummary> words = wordRepository.streamAllByOrderByTopicAscIdAsc()) {
+            for (WordRepository.WordSummary word : (Iterable<WordRepository.WordSummary>) words::iterator) {
+                writer.add(word.id(), word.topic(), word.text());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("The word pack could not be written to " + path, e);
+        }
+    }
+
+    private void swap(WordPack loaded, String source) {
+        this.pack = loaded;
+        generation.incrementAndGet();
+        log.info("Word index loaded: {} topics, {} words ({})", loaded.topics().size(), loaded.wordCount(), source);
+    }
+
+    /**
+     * Rebuilds the index once the transaction that changed the words has committed.
+     * @param event The change notification.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWordsChanged(WordsChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * @return a number that changes every time the index is rebuilt, so derived structures know when to rebuild.
+     */
+    public int generation() {
+        return generation.get();
+    }
+
+    /**
+     * Picks a random word for the given topic without touching the database.
+     * @param topic The topic to pick from.
+     * @return a random word of the topic, or an empty Optional if the topic has no words.
+     */
+    public Optional<IndexedWord> randomWord(String topic) {
+        WordPack.TopicWords words = pack.topics().get(topic);
+        if (words == null || words.size() == 0) {
+            return Optional.empty();
+        }
+        int position = ThreadLocalRandom.current().nextInt(words.size());
+        return Optional.of(new IndexedWord(words.id(position), words.text(position)));
+    }
+
+    /**
+     * @param topic The topic to look up.
+     * @return the words of the topic, or {@code null} if the topic is unknown.
+     */
+    public WordPack.TopicWords wordsOf(String topic) {
+        return pack.topics().get(topic);
+    }
+
+    /**
+     * @param topic The topic to look up.
+     * @return the number of words in the topic (0 for unknown topics).
+     */
+    public int topicSize(String topic) {
+        WordPack.TopicWords words = pack.topics().get(topic);
+        return words == null ? 0 : words.size();
+    }
+
+    /**
+     * @return an immutable snapshot of topic name to number of words.
+     */
+    public Map<String, Integer> topicSizes() {
+        Map<String, Integer> sizes = new HashMap<>();
+        pack.topics().forEach((topic, words) -> sizes.put(topic, words.size()));
+        return Map.copyOf(sizes);
+    }
+
+    /**
+     * A single word taken from the index.
+     *
+     * @param id The database id of the word.
+     * @param text The uppercase text of the word.
+     */
+    public record IndexedWord(long id, String text) {
+    }
+}
@@ -0,0 +1,273 @@
+package com.codewordle.codewordle.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Binary, memory-mapped word list: the words table grouped by topic, with fixed-width records.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * header  int magic "CWPK" | int version | long words version | long word count | long max word id | long index offset
+ * data    per topic, its words in id order: long id | text (uppercase UTF-8, zero-padded to the topic's width)
+ * index   int topic count | per topic: short name length | name (UTF-8) | int width | int count | long data offset
+ * </pre>
+ * The words version ({@link com.codewordle.codewordle.repository.WordsVersionRepository}), word count
+ * and max id identify the table contents the pack was generated from. The index is
+ * parsed into a small map when the pack is opened; the words themselves stay in the mapped file,
+ * off-heap, and a lookup reads one record with absolute gets. Packs are limited to 2 GB.
+ */
+public final class WordPack {
+
+    static final int MAGIC = 0x4357504B; // "CWPK"
+    static final int VERSION = 2;
+    private static final int HEADER_SIZE = 40;
+
+    /** A pack without words, used before the first one is opened. */
+    static final WordPack EMPTY = new WordPack(0, 0, 0, Map.of());
+
+    private final long wordsVersion;
+    private final long wordCount;
+    private final long maxWordId;
+    private final Map<String, TopicWords> topics;
+
+    private WordPack(long wordsVersion, long wordCount, long maxWordId, Map<String, TopicWords> topics) {
+        this.wordsVersion = wordsVersion;
+        this.wordCount = wordCount;
+        this.maxWordId = maxWordId;
+        this.topics = topics;
+    }
+
+    /**
+     * Maps a pack file into memory. The file must not be modified afterwards: replace it instead.
+     * @param path The pack file.
+     * @return the opened pack.
+     * @throws IOException if the file cannot be read or is not a word pack of this version.
+     */
+    public static WordPack open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Word pack larger than 2 GB: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a version " + VERSION + " word pack: " + path);
+        }
+        long wordsVersion = buffer.getLong(8);
+        long wordCount = buffer.getLong(16);
+        long maxWordId = buffer.getLong(24);
+        ByteBuffer index = buffer.duplicate().position((int) buffer.getLong(32));
+        int topicCount = index.getInt();
+        Map<String, TopicWords> topics = new HashMap<>();
+        for (int i = 0; i < topicCount; i++) {
+            byte[] name = new byte[index.getShort() & 0xFFFF];
+            index.get(name);
+            int width = index.getInt();
+            int count = index.getInt();
+            int offset = (int) index.getLong();
+            topics.put(new String(name, StandardCharsets.UTF_8), new TopicWords(buffer, offset, width, count));
+        }
+        return new WordPack(wordsVersion, wordCount, maxWordId, Map.copyOf(topics));
+    }
+
+    /**
+     * @return the version of the words table when the pack was generated.
+     */
+    public long wordsVersion() {
+        return wordsVersion;
+    }
+
+    /**
+     * @return the number of words in the table when the pack was generated.
+     */
+    public long wordCount() {
+        return wordCount;
+    }
+
+    /**
+     * @return the highest word id in the table when the pack was generated (0 if there were no words).
+     */
+    public long maxWordId() {
+        return maxWordId;
+    }
+
+    /**
+     * @return topic name to words, an immutable map.
+     */
+    public Map<String, TopicWords> topics() {
+        return topics;
+    }
+
+    /**
+     * Read-only view of one topic's words in the mapped file. Thread-safe: only absolute gets are used.
+     */
+    public static final class TopicWords {
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int width;
+        private final int count;
+
+        private TopicWords(ByteBuffer buffer, int offset, int width, int count) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.width = width;
+            this.count = count;
+        }
+
+        public int size() {
+            return count;
+        }
+
+        /**
+         * @param position Zero-based position, in ascending id order.
+         * @return the database id of the word.
+         */
+        public long id(int position) {
+            return buffer.getLong(record(position));
+        }
+
+        /**
+         * @param position Zero-based position, in ascending id order.
+         * @return the uppercase text of the word.
+         */
+        public String text(int position) {
+            int start = record(position) + Long.BYTES;
+            int length = 0;
+            while (length < width && buffer.get(start + length) != 0) {
+                length++;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private int record(int position) {
+            if (position < 0 || position >= count) {
+                throw new IndexOutOfBoundsException(position);
+            }
+            return offset + position * (Long.BYTES + width);
+        }
+    }
+
+    /**
+     * Writes a pack from words sorted by topic. Only one topic's words are buffered at a time,
+     * since its record width is the length of its longest word. The header is written last, so a
+     * pack interrupted while writing never has a valid magic number.
+     */
+    public static final class Writer implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        private final List<TopicEntry> index = new ArrayList<>();
+        private final List<Long> ids = new ArrayList<>();
+        private final List<byte[]> texts = new ArrayList<>();
+        private final long wordsVersion;
+        private String topic;
+        private long position = HEADER_SIZE;
+        private long wordCount;
+        private long maxWordId;
+
+        /**
+         * @param path The file to create. It must not exist yet.
+         * @param wordsVersion The version of the words table the pack is generated from.
+         */
+        public Writer(Path path, long wordsVersion) throws IOException {
+            this.wordsVersion = wordsVersion;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            channel.position(HEADER_SIZE);
+        }
+
+        /**
+         * Adds a word. Words must arrive grouped by topic, in ascending id order within a topic.
+         */
+        public void add(long id, String topic, String text) throws IOException {
+            if (!topic.equals(this.topic)) {
+                flushTopic();
+                this.topic = topic;
+            }
+            ids.add(id);
+            texts.add(text.toUpperCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+            wordCount++;
+            maxWordId = Math.max(maxWordId, id);
+        }
+
+        /**
+         * Writes the last topic, the index and the header, and closes the file.
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                flushTopic();
+                long indexOffset = position;
+                ensureCapacity(Integer.BYTES);
+                buffer.putInt(index.size());
+                for (TopicEntry entry : index) {
+                    byte[] name = entry.topic().getBytes(StandardCharsets.UTF_8);
+                    ensureCapacity(Short.BYTES + name.length + 2 * Integer.BYTES + Long.BYTES);
+                    buffer.putShort((short) name.length).put(name)
+                            .putInt(entry.width()).putInt(entry.count()).putLong(entry.offset());
+                }
+                drain();
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                        .putInt(MAGIC).putInt(VERSION).putLong(wordsVersion).putLong(wordCount).putLong(maxWordId).putLong(indexOffset)
+                        .flip();
+                channel.write(header, 0);
+                channel.force(false);
+            } finally {
+                channel.close();
+            }
+        }
+
+        private void flushTopic() throws IOException {
+            if (topic == null) {
+                return;
+            }
+            int width = 0;
+            for (byte[] text : texts) {
+                width = Math.max(width, text.length);
+            }
+            index.add(new TopicEntry(topic, width, ids.size(), position));
+            for (int i = 0; i < ids.size(); i++) {
+                byte[] text = texts.get(i);
+                ensureCapacity(Long.BYTES + width);
+                buffer.putLong(ids.get(i)).put(text);
+                for (int pad = text.length; pad < width; pad++) {
+                    buffer.put((byte) 0);
+                }
+            }
+            position += (long) ids.size() * (Long.BYTES + width);
+            ids.clear();
+            texts.clear();
+            topic = null;
+        }
+
+        private void ensureCapacity(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                drain();
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private record TopicEntry(String topic, int width, int count, long offset) {
+        }
+    }
+}
@@ -5,10 +5,12 @@ import com.codewordle.codewordle.dto.LoginResponse;
 import com.codewordle.codewordle.dto.UserCreateRequest;
 import com.codewordle.codewordle.dto.UserResponse;
 import com.codewordle.codewordle.mapper.UserMapper;
+import com.codewordle.codewordle.metrics.CodewordleMetrics;
 import com.codewordle.codewordle.model.User;
 import com.codewordle.codewordle.repository.UserRepository;
 import com.codewordle.codewordle.service.AuthService;
 import com.codewordle.codewordle.service.JwtService;
+import com.codewordle.codewordle.service.TokenRevocationService;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,13 +24,17 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final CodewordleMetrics metrics;
+    private final TokenRevocationService tokenRevocationService;
 
-    public AuthServiceImpl(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder, JwtService jwtService, AuthenticationManager authenticationManager) {
+    public AuthServiceImpl(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder, JwtService jwtService, AuthenticationManager authenticationManager, CodewordleMetrics metrics, TokenRevocationService tokenRevocationService) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
+        this.metrics = metrics;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
@@ -54,6 +60,23 @@ public class AuthServiceImpl implements AuthService {
      * @throws org.springframework.security.core.AuthenticationException if credentials are invalid.
      */
     public LoginResponse Login(LoginRequest request) {
+        long start = metrics.start();
+        boolean success = false;
+        try {
+            LoginResponse response = authenticate(request);
+            success = true;
+            return response;
+        } finally {
+            metrics.recordLogin(start, success);
+        }
+    }
+
+    @Override
+    public void Logout(User user) {
+        tokenRevocationService.revokeAll(user.getId());
+    }
+
+    private LoginResponse authenticate(LoginRequest request) {
         // Step 1: Trigger the authentication process using Spring Security's AuthenticationManager.
         // This manager will use our CustomUserDetailsService to find the user
         // and our PasswordEncoder to validate the password. If credentials are
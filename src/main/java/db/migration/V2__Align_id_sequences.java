@@ -0,0 +1,58 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Moves the id sequences of tables that used to be IDENTITY past their existing rows.
+ * <p>
+ * Games and guesses created before the switch to pooled sequences already have ids, while
+ * the sequences created by V1 start at 1. Hibernate's pooled optimizer hands out the block
+ * {@code (value - allocationSize, value]} for each sequence value, so the sequence must be at
+ * least {@code max(id) + allocationSize}.
+ */
+public class V2__Align_id_sequences extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final Map<String, String> SEQUENCES_BY_TABLE = Map.of(
+            "GAMES", "GAMES_SEQ",
+            "GUESSES", "GUESSES_SEQ"
+    );
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        for (Map.Entry<String, String> entry : SEQUENCES_BY_TABLE.entrySet()) {
+            alignSequence(context, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void alignSequence(Context context, String table, String sequence) throws SQLException {
+        long nextValue;
+        try (PreparedStatement select = context.getConnection().prepareStatement(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?")) {
+            select.setString(1, sequence);
+            try (ResultSet rs = select.executeQuery()) {
+                if (!rs.next()) {
+                    return;
+                }
+                nextValue = rs.getLong(1);
+            }
+        }
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                rs.next();
+                maxId = rs.getLong(1);
+            }
+            if (nextValue - ALLOCATION_SIZE < maxId) {
+                statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + ALLOCATION_SIZE));
+            }
+        }
+    }
+}
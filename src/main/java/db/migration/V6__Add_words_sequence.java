@@ -0,0 +1,35 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Moves word ids from IDENTITY to the pooled sequence {@code words_seq}, so word imports can
+ * batch their inserts like games and guesses do.
+ * <p>
+ * The sequence starts past the existing rows (see {@link V2__Align_id_sequences}), and becomes the
+ * column default, so rows inserted by hand without an id do not collide with Hibernate's blocks.
+ */
+public class V6__Add_words_sequence extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM words")) {
+                rs.next();
+                maxId = rs.getLong(1);
+            }
+            statement.execute("CREATE SEQUENCE IF NOT EXISTS words_seq START WITH " + (maxId + ALLOCATION_SIZE)
+                    + " INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute("ALTER TABLE words ALTER COLUMN id DROP IDENTITY");
+            statement.execute("ALTER TABLE words ALTER COLUMN id SET DEFAULT NEXT VALUE FOR words_seq");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- Version of the words table contents (a single row, id = 1). Every write to the words table
+-- bumps it, and the word pack records the version it was generated from, so a restart can tell
+-- whether the pack still matches the table.
+CREATE TABLE IF NOT EXISTS words_version (
+    id      INTEGER PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO words_version (id, version) VALUES (1, 0);
@@ -0,0 +1,42 @@
+-- Baseline: the schema previously created by Hibernate's ddl-auto=update.
+-- Every statement is idempotent, so it also runs on databases created before Flyway was introduced
+-- (those are baselined at version 0 and then migrated from here).
+
+CREATE TABLE IF NOT EXISTS users (
+    id            INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(255) NOT NULL UNIQUE,
+    email         VARCHAR(255) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL,
+    role          VARCHAR(50)  NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS words (
+    id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    text  VARCHAR(255) NOT NULL,
+    topic VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS games (
+    id         BIGINT PRIMARY KEY,
+    user_id    INTEGER      NOT NULL REFERENCES users (id),
+    word_id    BIGINT       NOT NULL REFERENCES words (id),
+    status     ENUM ('IN_PROGRESS', 'LOST', 'WON') NOT NULL,
+    start_time TIMESTAMP(6) NOT NULL,
+    end_time   TIMESTAMP(6),
+    attempts   INTEGER DEFAULT 0 NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS guesses (
+    id           BIGINT PRIMARY KEY,
+    game_id      BIGINT       NOT NULL REFERENCES games (id),
+    guessed_word VARCHAR(255) NOT NULL,
+    timestamp    TIMESTAMP(6) NOT NULL
+);
+
+-- Databases from before the attempts column: add it and count the existing guesses.
+ALTER TABLE games ADD COLUMN IF NOT EXISTS attempts INTEGER DEFAULT 0 NOT NULL;
+UPDATE games g SET attempts = (SELECT COUNT(*) FROM guesses gu WHERE gu.game_id = g.id) WHERE attempts = 0;
+
+-- Pooled id generators of Game and Guess (allocationSize = 50). V2 moves them past existing rows.
+CREATE SEQUENCE IF NOT EXISTS games_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS guesses_seq START WITH 1 INCREMENT BY 50;
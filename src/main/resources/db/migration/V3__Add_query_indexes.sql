@@ -0,0 +1,9 @@
+-- Indexes for the hot queries:
+--   GameRepository.findByUserAndStatus               -> games (user_id, status)
+--   GuessRepository.findByGameOrderByTimestampAsc    -> guesses (game_id, timestamp)
+--   WordRepository.findByTopic                       -> words (topic)
+-- The guesses index also holds guessed_word, so the guess history is read from the index alone.
+-- H2 otherwise prefers the single-column index it creates for the game_id foreign key.
+CREATE INDEX IF NOT EXISTS idx_games_user_status ON games (user_id, status);
+CREATE INDEX IF NOT EXISTS idx_guesses_game_timestamp ON guesses (game_id, timestamp, guessed_word);
+CREATE INDEX IF NOT EXISTS idx_words_topic ON words (topic);
@@ -0,0 +1,6 @@
+-- Latest snapshot of the in-memory statistics and leaderboards (a single row, id = 1).
+CREATE TABLE IF NOT EXISTS stats_snapshots (
+    id       INTEGER PRIMARY KEY,
+    taken_at TIMESTAMP(6) NOT NULL,
+    payload  CHARACTER LARGE OBJECT NOT NULL
+);
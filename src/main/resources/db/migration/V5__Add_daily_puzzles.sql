@@ -0,0 +1,14 @@
+-- Daily mode: every player gets the same word per topic per day.
+-- The word of each day is chosen in advance by DailyPuzzleService and stored here, so it stays
+-- the same for the whole day even if the topic's words change or the application restarts.
+CREATE TABLE IF NOT EXISTS daily_puzzles (
+    puzzle_date DATE         NOT NULL,
+    topic       VARCHAR(255) NOT NULL,
+    word_id     BIGINT       NOT NULL REFERENCES words (id),
+    PRIMARY KEY (puzzle_date, topic)
+);
+
+-- Daily games carry the day they belong to; regular games leave it NULL.
+-- A player plays each daily word once (NULLs are distinct, so regular games are not constrained).
+ALTER TABLE games ADD COLUMN IF NOT EXISTS puzzle_date DATE;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_games_daily ON games (user_id, puzzle_date, word_id);
@@ -0,0 +1,5 @@
+-- Game history, newest first, with keyset pagination on (end_time, id):
+--   GameRepository.findHistory / findHistoryBefore  -> games (user_id, end_time DESC, id DESC)
+-- A page is a range scan that starts at the cursor, so deep pages cost the same as the first one.
+-- Games in progress have no end_time and sort last, outside the scanned range.
+CREATE INDEX IF NOT EXISTS idx_games_user_end_time ON games (user_id, end_time DESC, id DESC);
@@ -0,0 +1,15 @@
+-- Optimistic locking of games (Game.version): every update checks and increments it.
+ALTER TABLE games ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+-- At most one game in progress per user, also across instances. H2 has no partial indexes, so the
+-- unique index is on a generated column that holds the user id only while the game is in progress
+-- (NULLs do not collide).
+-- Duplicates left by concurrent starts before this index are closed first: the newest game of the
+-- user stays in progress, the older ones are marked lost.
+UPDATE games g SET status = 'LOST', end_time = CURRENT_TIMESTAMP
+WHERE g.status = 'IN_PROGRESS'
+  AND EXISTS (SELECT 1 FROM games n WHERE n.user_id = g.user_id AND n.status = 'IN_PROGRESS' AND n.id > g.id);
+
+ALTER TABLE games ADD COLUMN IF NOT EXISTS in_progress_user_id INTEGER
+    GENERATED ALWAYS AS (CASE WHEN status = 'IN_PROGRESS' THEN user_id END);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_games_in_progress_user ON games (in_progress_user_id);
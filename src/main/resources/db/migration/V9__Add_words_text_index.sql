@@ -0,0 +1,4 @@
+-- Duplicate check of a word import batch:
+--   WordRepository.findExisting -> words (text, topic)
+-- The texts of the batch come first, so each one is an index lookup however large its topic is.
+CREATE INDEX IF NOT EXISTS idx_words_text_topic ON words (text, topic);
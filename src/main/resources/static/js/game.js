@@ -8,10 +8,19 @@ document.addEventListener('DOMContentLoaded', () => {
         guessInput: document.getElementById('guess-input'),
         startGameBtn: document.getElementById('start-game-btn'),
         topicSelect: document.getElementById('topic-select'),
+        dailyCheckbox: document.getElementById('daily-checkbox'),
+        remainingCandidates: document.getElementById('remaining-candidates'),
         gameOver: document.getElementById('game-over-message'),
         gameResultText: document.getElementById('game-result-text'),
         correctWord: document.getElementById('correct-word'),
         playAgainBtn: document.getElementById('play-again-btn'),
+        createMatchBtn: document.getElementById('create-match-btn'),
+        joinMatchBtn: document.getElementById('join-match-btn'),
+        matchCodeInput: document.getElementById('match-code-input'),
+        versusPanel: document.getElementById('versus-panel'),
+        matchCode: document.getElementById('match-code'),
+        matchPlayers: document.getElementById('match-players'),
+        matchWinner: document.getElementById('match-winner'),
         logoutBtn: document.getElementById('logout-btn')
     };
 
@@ -24,6 +33,10 @@ document.addEventListener('DOMContentLoaded', () => {
         isSubmitting: false
     };
 
+    // --- ESTADO DEL DUELO ---
+    // players: playerId -> { name, rows, status }. El stream se cancela con el AbortController.
+    let match = { id: null, players: new Map(), stream: null };
+
     // --- CAPA DE API (con getActiveGame y manejo de respuesta 204) ---
     const api = {
         getToken: () => localStorage.getItem('jwtToken'),
@@ -35,10 +48,8 @@ document.addEventListener('DOMContentLoaded', () => {
                 return;
             }
 
-            const defaultOptions = {
-                headers: { 'Content-Type': 'application/json', 'Authorization': `Bearer ${token}` }
-            };
-            const response = await fetch(url, { ...defaultOptions, ...options });
+            const headers = { 'Content-Type': 'application/json', 'Authorization': `Bearer ${token}`, ...options.headers };
+            const response = await fetch(url, { ...options, headers });
 
             // NUEVO: Manejo específico para 204 No Content
             if (response.status === 204) {
@@ -59,11 +70,146 @@ document.addEventListener('DOMContentLoaded', () => {
         // NUEVO: Método para buscar partidas activas
         getActiveGame: () => api._fetch('/api/games/active', { method: 'GET' }),
 
-        startGame: (topic) => api._fetch('/api/games/start', { method: 'POST', body: JSON.stringify({ topic }) }),
+        startGame: (topic, daily) => api._fetch('/api/games/start', { method: 'POST', body: JSON.stringify({ topic, daily }) }),
+
+        // Cada intento lleva su propia Idempotency-Key: si la red falla, se reenvía con la misma clave
+        // y el servidor devuelve el resultado del primer envío en lugar de gastar otro intento.
+        makeGuess: async (gameId, word) => {
+            const idempotencyKey = crypto.randomUUID ? crypto.randomUUID() : `${Date.now()}-${Math.random()}`;
+            const options = { method: 'POST', body: JSON.stringify({ word }), headers: { 'Idempotency-Key': idempotencyKey } };
+            for (let retry = 0; ; retry++) {
+                try {
+                    return await api._fetch(`/api/games/${gameId}/guess`, options);
+                } catch (error) {
+                    // fetch lanza TypeError cuando no hay respuesta (red caída o conexión cortada).
+                    if (!(error instanceof TypeError) || retry >= 2) throw error;
+                    await new Promise(resolve => setTimeout(resolve, 500 * (retry + 1)));
+                }
+            }
+        },
 
-        makeGuess: (gameId, word) => api._fetch(`/api/games/${gameId}/guess`, { method: 'POST', body: JSON.stringify({ word }) })
+        createMatch: (topic) => api._fetch('/api/matches', { method: 'POST', body: JSON.stringify({ topic }) }),
+
+        joinMatch: (matchId) => api._fetch(`/api/matches/${encodeURIComponent(matchId)}/join`, { method: 'POST' }),
+
+        getMatch: (matchId) => api._fetch(`/api/matches/${encodeURIComponent(matchId)}`, { method: 'GET' })
     };
 
+    // --- DUELO EN DIRECTO (Server-Sent Events) ---
+    // EventSource no permite enviar la cabecera Authorization, así que el stream se lee con fetch.
+    async function streamMatch(matchId) {
+        const controller = new AbortController();
+        match.stream = controller;
+        try {
+            const response = await fetch(`/api/matches/${encodeURIComponent(matchId)}/events`, {
+                headers: { 'Accept': 'text/event-stream', 'Authorization': `Bearer ${api.getToken()}` },
+                signal: controller.signal
+            });
+            if (!response.ok) {
+                throw new Error('Match stream failed');
+            }
+            const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+            let buffer = '';
+            while (true) {
+                const { value, done } = await reader.read();
+                if (done) break;
+                buffer += value;
+                let end;
+                while ((end = buffer.indexOf('\n\n')) >= 0) {
+                    handleMatchEvent(buffer.slice(0, end));
+                    buffer = buffer.slice(end + 2);
+                }
+            }
+        } catch (error) {
+            if (controller.signal.aborted) return;
+            console.error(error);
+        }
+        // El servidor cerró el stream (reinicio o tiempo máximo): nos reconectamos y recibimos el estado completo.
+        if (match.id === matchId && match.stream === controller) {
+            setTimeout(() => {
+                if (match.id === matchId && match.stream === controller) streamMatch(matchId);
+            }, 3000);
+        }
+    }
+
+    function handleMatchEvent(block) {
+        let name = 'message';
+        let data = '';
+        block.split('\n').forEach(line => {
+            if (line.startsWith('event:')) name = line.slice(6).trim();
+            else if (line.startsWith('data:')) data += line.slice(5);
+        });
+        if (!data) return; // Comentarios de heartbeat
+
+        const payload = JSON.parse(data);
+        if (name === 'snapshot') {
+            match.players = new Map(payload.players.map(p => [p.playerId, p]));
+            showMatchWinner(payload.winner);
+        } else if (name === 'player-joined') {
+            match.players.set(payload.playerId, payload);
+        } else if (name === 'progress') {
+            const player = match.players.get(payload.playerId) || { playerId: payload.playerId, name: payload.name, rows: [] };
+            player.rows = player.rows.slice(0, payload.attempt - 1).concat([payload.colors]);
+            player.status = payload.status;
+            match.players.set(payload.playerId, player);
+            showMatchWinner(payload.winner);
+        }
+        renderMatchPlayers();
+    }
+
+    function renderMatchPlayers() {
+        elements.matchPlayers.innerHTML = '';
+        match.players.forEach(player => {
+            const card = document.createElement('div');
+            const name = document.createElement('p');
+            name.className = 'text-xs text-gray-300 mb-1';
+            name.textContent = player.status === 'WON' ? `${player.name} ✓` : player.name;
+            card.appendChild(name);
+            for (let i = 0; i < state.maxAttempts; i++) {
+                const row = document.createElement('div');
+                row.className = 'flex gap-0.5 mb-0.5';
+                const colors = player.rows[i] || [];
+                for (let j = 0; j < state.wordLength; j++) {
+                    const tile = document.createElement('div');
+                    tile.className = 'mini-tile';
+                    if (colors[j] === 'CORRECT_POSITION') tile.classList.add('correct-position');
+                    else if (colors[j] === 'WRONG_POSITION') tile.classList.add('wrong-position');
+                    else if (colors[j] === 'INCORRECT') tile.classList.add('incorrect');
+                    row.appendChild(tile);
+                }
+                card.appendChild(row);
+            }
+            elements.matchPlayers.appendChild(card);
+        });
+    }
+
+    function showMatchWinner(winner) {
+        if (!winner) {
+            elements.matchWinner.classList.add('hidden');
+            return;
+        }
+        elements.matchWinner.textContent = `${winner} ha encontrado la palabra`;
+        elements.matchWinner.classList.remove('hidden');
+    }
+
+    function enterMatch(matchState) {
+        match.id = matchState.matchId;
+        match.players = new Map(matchState.players.map(p => [p.playerId, p]));
+        localStorage.setItem('matchId', matchState.matchId);
+        elements.matchCode.textContent = matchState.matchId;
+        elements.versusPanel.classList.remove('hidden');
+        showMatchWinner(matchState.winner);
+        renderMatchPlayers();
+        streamMatch(matchState.matchId);
+    }
+
+    function leaveMatch() {
+        if (match.stream) match.stream.abort();
+        match = { id: null, players: new Map(), stream: null };
+        localStorage.removeItem('matchId');
+        elements.versusPanel.classList.add('hidden');
+    }
+
     // --- FUNCIONES DE RENDERIZADO Y UI ---
     // (setupBoard, renderFeedback, showGameOver no cambian, son perfectas como están)
     function setupBoard(wordLength, maxAttempts) {
@@ -107,6 +253,18 @@ document.addEventListener('DOMContentLoaded', () => {
         });
     }
 
+    function showRemainingCandidates(count, attempt) {
+        // Antes del primer intento no aporta nada: son todas las palabras del tema con esa longitud.
+        if (attempt === 0) {
+            elements.remainingCandidates.classList.add('hidden');
+            return;
+        }
+        elements.remainingCandidates.textContent = count === 1
+            ? 'Queda 1 palabra posible'
+            : `Quedan ${count} palabras posibles`;
+        elements.remainingCandidates.classList.remove('hidden');
+    }
+
     function showGameOver(status, word) {
         state.isSubmitting = true;
         elements.guessInput.disabled = true;
@@ -143,6 +301,7 @@ document.addEventListener('DOMContentLoaded', () => {
                 state.currentAttempt = activeGame.previousGuesses.length;
 
                 setupBoard(state.wordLength, state.maxAttempts);
+                showRemainingCandidates(activeGame.remainingCandidates, state.currentAttempt);
 
                 // Reconstruimos el tablero con los intentos anteriores, sin animación
                 activeGame.previousGuesses.forEach((feedback, index) => {
@@ -157,6 +316,18 @@ document.addEventListener('DOMContentLoaded', () => {
                 elements.gameContainer.classList.remove('hidden');
                 elements.guessInput.focus();
 
+                // Si la partida es de un duelo, volvemos a seguir a los rivales.
+                const matchId = localStorage.getItem('matchId');
+                if (matchId) {
+                    try {
+                        const matchState = await api.getMatch(matchId);
+                        if (matchState.gameId === activeGame.gameId) enterMatch(matchState);
+                        else localStorage.removeItem('matchId');
+                    } catch (error) {
+                        localStorage.removeItem('matchId');
+                    }
+                }
+
             } else {
                 // Si no hay partida, mostramos la selección de tema
                 console.log("No active game found. Showing topic selection.");
@@ -169,21 +340,52 @@ document.addEventListener('DOMContentLoaded', () => {
         }
     }
 
+    function showNewGame(initialState) {
+        state = { ...state, gameId: initialState.gameId, wordLength: initialState.wordLength, maxAttempts: initialState.maxAttempts, currentAttempt: 0, isSubmitting: false };
+        setupBoard(state.wordLength, state.maxAttempts);
+        showRemainingCandidates(0, 0);
+        elements.topicSelection.classList.add('hidden');
+        elements.gameContainer.classList.remove('hidden');
+        elements.gameOver.classList.add('hidden');
+        elements.guessInput.focus();
+    }
+
     async function handleStartGame() {
         try {
-            const initialState = await api.startGame(elements.topicSelect.value);
-            state = { ...state, gameId: initialState.gameId, wordLength: initialState.wordLength, maxAttempts: initialState.maxAttempts, currentAttempt: 0, isSubmitting: false };
-            setupBoard(state.wordLength, state.maxAttempts);
-            elements.topicSelection.classList.add('hidden');
-            elements.gameContainer.classList.remove('hidden');
-            elements.gameOver.classList.add('hidden');
-            elements.guessInput.focus();
+            leaveMatch();
+            showNewGame(await api.startGame(elements.topicSelect.value, elements.dailyCheckbox.checked));
         } catch (error) {
             console.error(error);
             alert('Error al iniciar la partida. Intenta de nuevo.');
         }
     }
 
+    async function handleCreateMatch() {
+        try {
+            leaveMatch();
+            const matchState = await api.createMatch(elements.topicSelect.value);
+            showNewGame(matchState);
+            enterMatch(matchState);
+        } catch (error) {
+            console.error(error);
+            alert('Error al crear el duelo. Intenta de nuevo.');
+        }
+    }
+
+    async function handleJoinMatch() {
+        const code = elements.matchCodeInput.value.trim().toUpperCase();
+        if (!code) return;
+        try {
+            leaveMatch();
+            const matchState = await api.joinMatch(code);
+            showNewGame(matchState);
+            enterMatch(matchState);
+        } catch (error) {
+            console.error(error);
+            alert('No se pudo entrar en el duelo: comprueba el código o si ya ha empezado.');
+        }
+    }
+
     async function handleGuessSubmit(event) {
         event.preventDefault();
         if (state.isSubmitting) return;
@@ -197,6 +399,7 @@ document.addEventListener('DOMContentLoaded', () => {
             renderFeedback(result.feedback, state.currentAttempt);
 
             state.currentAttempt++;
+            showRemainingCandidates(result.remainingCandidates, state.currentAttempt);
             if (result.gameStatus !== 'IN_PROGRESS') {
                 showGameOver(result.gameStatus, result.correctWord);
             }
@@ -212,11 +415,18 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     function handlePlayAgain() {
+        leaveMatch();
         elements.gameOver.classList.add('hidden');
         elements.topicSelection.classList.remove('hidden');
     }
 
-    function handleLogout() {
+    async function handleLogout() {
+        // Revoca los tokens en el servidor; si falla, la sesión se cierra igualmente en este navegador.
+        try {
+            await api._fetch('/auth/logout', { method: 'POST' });
+        } catch (error) {
+            console.error('Logout failed:', error);
+        }
         localStorage.removeItem('jwtToken');
         window.location.href = '/login';
     }
@@ -225,6 +435,8 @@ document.addEventListener('DOMContentLoaded', () => {
     elements.startGameBtn.addEventListener('click', handleStartGame);
     elements.guessForm.addEventListener('submit', handleGuessSubmit);
     elements.playAgainBtn.addEventListener('click', handlePlayAgain);
+    elements.createMatchBtn.addEventListener('click', handleCreateMatch);
+    elements.joinMatchBtn.addEventListener('click', handleJoinMatch);
     elements.logoutBtn.addEventListener('click', handleLogout);
 
     // Ejecutamos la lógica de inicialización al cargar la página
@@ -34,6 +34,8 @@
         .correct-position { background-color: #16a34a; border-color: #16a34a; } /* Verde */
         .wrong-position { background-color: #ca8a04; border-color: #ca8a04; } /* Amarillo */
         .incorrect { background-color: #374151; border-color: #374151; } /* Gris oscuro */
+        /* Casillas pequeñas del progreso de los rivales en un duelo */
+        .mini-tile { width: 0.75rem; height: 0.75rem; border: 1px solid #4b5563; }
     </style>
 </head>
 <body class="bg-gray-900 text-gray-200 font-mono flex flex-col items-center min-h-screen pt-8 pb-4">
@@ -52,14 +54,37 @@
                 <option value="Spring">Spring</option>
                 <option value="DevOps">DevOps</option>
             </select>
+            <label class="flex items-center justify-center gap-2 mt-4 text-gray-300">
+                <input id="daily-checkbox" type="checkbox" class="accent-emerald-500">
+                Palabra del día
+            </label>
             <button id="start-game-btn" class="mt-4 w-full md:w-auto bg-emerald-600 hover:bg-emerald-700 text-white font-bold py-2 px-4 rounded transition duration-300">
                 Iniciar Partida
             </button>
+
+            <!-- Duelo: varios jugadores con la misma palabra, viendo en directo los colores de los demás -->
+            <div class="mt-6 pt-4 border-t border-gray-700">
+                <h3 class="text-lg mb-2 text-gray-300">Duelo</h3>
+                <button id="create-match-btn" class="w-full md:w-auto bg-gray-600 hover:bg-gray-700 text-white font-bold py-2 px-4 rounded transition duration-300">
+                    Crear duelo
+                </button>
+                <div class="flex gap-2 mt-2">
+                    <input id="match-code-input" type="text" placeholder="Código del duelo" autocomplete="off"
+                           class="flex-grow p-2 bg-gray-700 rounded border border-gray-600 focus:outline-none focus:ring-2 focus:ring-emerald-500 uppercase text-center">
+                    <button id="join-match-btn" class="bg-gray-600 hover:bg-gray-700 text-white font-bold py-2 px-4 rounded">Unirse</button>
+                </div>
+            </div>
         </div>
 
         <!-- SECCIÓN 2: EL JUEGO (oculto por defecto) -->
         <div id="game-container" class="hidden transition-opacity duration-500">
+            <div id="versus-panel" class="hidden mb-4 p-3 bg-gray-800 rounded">
+                <p class="text-sm text-gray-400">Duelo <span id="match-code" class="font-bold text-emerald-400 tracking-wider"></span> · comparte el código para que se unan otros jugadores</p>
+                <div id="match-players" class="flex flex-wrap gap-4 mt-2"></div>
+                <p id="match-winner" class="hidden mt-2 text-sm font-bold text-emerald-400"></p>
+            </div>
             <div id="game-board" class="grid gap-2 mb-4"></div>
+            <p id="remaining-candidates" class="hidden text-center text-sm text-gray-400 mb-2"></p>
             <form id="guess-form" class="flex gap-2">
                 <input type="text" id="guess-input" required
                        class="flex-grow p-3 bg-gray-700 rounded border border-gray-600 focus:outline-none focus:ring-2 focus:ring-emerald-500 uppercase text-center text-2xl font-bold tracking-[.2em]"
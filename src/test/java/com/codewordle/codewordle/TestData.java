@@ -0,0 +1,72 @@
+package com.codewordle.codewordle;
+
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.UserRepository;
+import com.codewordle.codewordle.repository.WordRepository;
+import com.codewordle.codewordle.service.JwtService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fixtures shared by the integration tests: saved users and words, and tokens to call the API as a user.
+ * Each test context has its own embedded database, but Spring caches contexts and reuses them across
+ * test classes with the same configuration, so saved data outlives the test that created it: every test
+ * picks names of its own.
+ */
+@Component
+public class TestData {
+
+    private final UserRepository userRepository;
+    private final WordRepository wordRepository;
+    private final JwtService jwtService;
+
+    public TestData(UserRepository userRepository, WordRepository wordRepository, JwtService jwtService) {
+        this.userRepository = userRepository;
+        this.wordRepository = wordRepository;
+        this.jwtService = jwtService;
+    }
+
+    /**
+     * @param name A name no other test uses; the email is derived from it.
+     * @return a saved player.
+     */
+    public User user(String name) {
+        return user(name, "ROLE_USER");
+    }
+
+    /**
+     * @param name A name no other test uses; the email is derived from it.
+     * @param role The role, such as {@code ROLE_ADMIN}.
+     * @return a saved user.
+     */
+    public User user(String name, String role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@codewordle.test");
+        user.setPassword("hash");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    /**
+     * Saves a word. The word index and the dictionary only see it after their next refresh.
+     *
+     * @param text The word.
+     * @param topic Its topic.
+     * @return the saved word.
+     */
+    public Word word(String text, String topic) {
+        Word word = new Word();
+        word.setText(text);
+        word.setTopic(topic);
+        return wordRepository.save(word);
+    }
+
+    /**
+     * @param user The user.
+     * @return the value of an Authorization header authenticating the user.
+     */
+    public String bearer(User user) {
+        return "Bearer " + jwtService.generateToken(user);
+    }
+}
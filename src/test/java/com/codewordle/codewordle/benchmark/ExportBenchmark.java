@@ -0,0 +1,126 @@
+package com.codewordle.codewordle.benchmark;
+
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.UserRepository;
+import com.codewordle.codewordle.repository.WordRepository;
+import com.codewordle.codewordle.service.GameExportService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exports a million guesses and reports the throughput, the output size and how far the live heap
+ * (sampled after a GC every few MB of output) grew above what the database already held, which the
+ * streaming export should keep small.
+ * Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class ExportBenchmark {
+
+    private static final int GUESSES = 1_000_000;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Autowired
+    private GameExportService gameExportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WordRepository wordRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exportsAMillionGuessesInConstantMemory() throws Exception {
+        User user = new User();
+        user.setName("export-bench");
+        user.setEmail("export-bench@codewordle.test");
+        user.setPassword("hash");
+        user.setRole("ROLE_USER");
+        userRepository.save(user);
+        Word word = new Word();
+        word.setText("SPARK");
+        word.setTopic("ExportBench");
+        wordRepository.save(word);
+        long gameId = 20_000_000L;
+        Timestamp start = Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 0, 0));
+        jdbcTemplate.update("INSERT INTO games (id, user_id, word_id, status, start_time, attempts) VALUES (?, ?, ?, 'IN_PROGRESS', ?, 0)",
+                gameId, user.getId(), word.getId(), start);
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < GUESSES; i++) {
+            rows.add(new Object[]{30_000_000L + i, gameId, "GUESS" + (i % 1000), start});
+            if (rows.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate("INSERT INTO guesses (id, game_id, guessed_word, timestamp) VALUES (?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+
+        for (String compression : List.of("plain", "gzip")) {
+            CountingStream output = new CountingStream(false);
+            long begin = System.nanoTime();
+            long exported = gameExportService.export(GameExportService.Dataset.GUESSES, output, compression.equals("gzip"));
+            double seconds = (System.nanoTime() - begin) / 1e9;
+
+            long baseline = usedHeapAfterGc();
+            CountingStream sampled = new CountingStream(true);
+            gameExportService.export(GameExportService.Dataset.GUESSES, sampled, compression.equals("gzip"));
+            System.out.printf("export (%s): %,d guesses, %,d bytes in %.2f s (%,.0f rows/s), live heap growth %,d KB%n",
+                    compression, exported, output.bytes, seconds, exported / seconds, (sampled.maxLive - baseline) >> 10);
+            assertTrue(exported >= GUESSES);
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Discards the export, counting its bytes, and optionally samples the live heap every 512 KB.
+     */
+    private static final class CountingStream extends OutputStream {
+        private static final long SAMPLE_INTERVAL = 512 * 1024;
+        private final boolean sample;
+        private long bytes;
+        private long nextSample = SAMPLE_INTERVAL;
+        private long maxLive;
+
+        private CountingStream(boolean sample) {
+            this.sample = sample;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            if (sample && bytes >= nextSample) {
+                maxLive = Math.max(maxLive, usedHeapAfterGc());
+                nextSample = bytes + SAMPLE_INTERVAL;
+            }
+        }
+    }
+}
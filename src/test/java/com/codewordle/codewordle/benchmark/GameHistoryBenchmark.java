@@ -0,0 +1,93 @@
+package com.codewordle.codewordle.benchmark;
+
+import com.codewordle.codewordle.dto.GameHistoryResponse;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.UserRepository;
+import com.codewordle.codewordle.repository.WordRepository;
+import com.codewordle.codewordle.service.GameHistoryService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Walks the whole history of a player with tens of thousands of games and compares the latency of
+ * the first pages with the deepest ones, which keyset pagination should keep equal.
+ * Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class GameHistoryBenchmark {
+
+    private static final int GAMES = 50_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARM_UP_PAGES = 500;
+    private static final int SAMPLE_PAGES = 100;
+
+    @Autowired
+    private GameHistoryService gameHistoryService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WordRepository wordRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deepPagesCostTheSameAsTheFirst() {
+        User user = new User();
+        user.setName("history-bench");
+        user.setEmail("history-bench@codewordle.test");
+        user.setPassword("hash");
+        user.setRole("ROLE_USER");
+        userRepository.save(user);
+        Word word = new Word();
+        word.setText("POSTGRES");
+        word.setTopic("HistoryBench");
+        wordRepository.save(word);
+
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(GAMES);
+        for (int i = 0; i < GAMES; i++) {
+            LocalDateTime end = base.plusMinutes(i);
+            rows.add(new Object[]{10_000_000L + i, user.getId(), word.getId(), i % 3 == 0 ? "LOST" : "WON",
+                    Timestamp.valueOf(end.minusMinutes(2)), Timestamp.valueOf(end), 1 + i % 6});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO games (id, user_id, word_id, status, start_time, end_time, attempts) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+
+        int pages = 0;
+        int games = 0;
+        long first = 0;
+        long last = 0;
+        int totalPages = GAMES / PAGE_SIZE;
+        String cursor = null;
+        do {
+            long start = System.nanoTime();
+            GameHistoryResponse page = gameHistoryService.getHistory(user, cursor, PAGE_SIZE);
+            long elapsed = System.nanoTime() - start;
+            // Skip the first pages while the JIT warms up, then sample near the top and at the bottom.
+            if (pages >= WARM_UP_PAGES && pages < WARM_UP_PAGES + SAMPLE_PAGES) {
+                first += elapsed;
+            } else if (pages >= totalPages - SAMPLE_PAGES) {
+                last += elapsed;
+            }
+            games += page.getGames().size();
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        System.out.printf("game history: %,d games in %,d pages, early pages %.3f ms, deepest pages %.3f ms%n",
+                games, pages, first / 1e6 / SAMPLE_PAGES, last / 1e6 / SAMPLE_PAGES);
+        assertEquals(GAMES, games);
+    }
+}
@@ -0,0 +1,88 @@
+package com.codewordle.codewordle.benchmark;
+
+import com.codewordle.codewordle.dto.WordImportResponse;
+import com.codewordle.codewordle.service.HintEngine;
+import com.codewordle.codewordle.service.WordImportService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures hint latency on a topic with thousands of five-letter words: the one-off matrix build,
+ * the memoized first hint, and hints after one and two guesses.
+ * Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class HintBenchmark {
+
+    private static final int WORDS = 4_000;
+    private static final int GAMES = 200;
+    private static final String TOPIC = "HintBench";
+
+    @Autowired
+    private WordImportService wordImportService;
+    @Autowired
+    private HintEngine hintEngine;
+
+    @Test
+    void hintLatency() {
+        List<String> words = generate();
+        StringBuilder csv = new StringBuilder();
+        words.forEach(word -> csv.append(word).append(',').append(TOPIC).append('\n'));
+        WordImportResponse imported = wordImportService.importCsv(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.US_ASCII)), null);
+        assertEquals(WORDS, imported.getImported());
+
+        long start = System.nanoTime();
+        HintEngine.Hint opener = hintEngine.suggest(TOPIC, words.get(0), List.of()).orElseThrow();
+        System.out.printf("hint matrix and opener: %d words in %d ms (opener %s, %.2f bits)%n",
+                WORDS, (System.nanoTime() - start) / 1_000_000, opener.word(), opener.expectedBits());
+
+        SplittableRandom random = new SplittableRandom(1);
+        for (int guesses = 0; guesses <= 2; guesses++) {
+            long total = 0;
+            long worst = 0;
+            for (int game = 0; game < GAMES; game++) {
+                String target = words.get(random.nextInt(WORDS));
+                List<String> previous = new ArrayList<>();
+                for (int i = 0; i < guesses; i++) {
+                    previous.add(i == 0 ? opener.word() : words.get(random.nextInt(WORDS)));
+                }
+                long hintStart = System.nanoTime();
+                HintEngine.Hint hint = hintEngine.suggest(TOPIC, target, previous).orElseThrow();
+                long elapsed = System.nanoTime() - hintStart;
+                total += elapsed;
+                worst = Math.max(worst, elapsed);
+                assertEquals(target.length(), hint.word().length());
+            }
+            System.out.printf("hint after %d guesses: mean %.2f ms, max %.2f ms%n",
+                    guesses, total / 1e6 / GAMES, worst / 1e6);
+        }
+    }
+
+    private static List<String> generate() {
+        SplittableRandom random = new SplittableRandom(42);
+        Set<String> words = new LinkedHashSet<>();
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        while (words.size() < WORDS) {
+            char[] word = new char[5];
+            for (int i = 0; i < word.length; i++) {
+                word[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            words.add(new String(word));
+        }
+        return new ArrayList<>(words);
+    }
+}
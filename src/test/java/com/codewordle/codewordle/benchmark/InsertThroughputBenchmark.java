@@ -0,0 +1,111 @@
+package com.codewordle.codewordle.benchmark;
+
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.model.Guess;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.GameRepository;
+import com.codewordle.codewordle.repository.GuessRepository;
+import com.codewordle.codewordle.repository.UserRepository;
+import com.codewordle.codewordle.repository.WordRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures guess insert throughput with JDBC batching off (one round trip per row, as with the
+ * former IDENTITY ids) and on (pooled sequence ids plus batched inserts).
+ * Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class InsertThroughputBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WordRepository wordRepository;
+    @Autowired
+    private GameRepository gameRepository;
+    @Autowired
+    private GuessRepository guessRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void guessInsertThroughput() {
+        Game game = createGame();
+
+        // Warm-up
+        insertGuesses(game, 1, ROWS / 4);
+        insertGuesses(game, 50, ROWS / 4);
+
+        for (int batchSize : new int[]{1, 50}) {
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                best = Math.min(best, insertGuesses(game, batchSize, ROWS));
+            }
+            System.out.printf("guess inserts, jdbc batch size %2d: %,d rows in %d ms (%,.0f rows/s)%n",
+                    batchSize, ROWS, best / 1_000_000, ROWS / (best / 1e9));
+        }
+
+        assertEquals(ROWS / 2 + 2L * ROUNDS * ROWS, guessRepository.count());
+    }
+
+    private long insertGuesses(Game game, int batchSize, int rows) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            Game reference = gameRepository.getReferenceById(game.getId());
+            List<Guess> guesses = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                Guess guess = new Guess();
+                guess.setGame(reference);
+                guess.setGuessedWord("STREAM");
+                guess.setTimestamp(LocalDateTime.now());
+                guesses.add(guess);
+            }
+            guessRepository.saveAll(guesses);
+            entityManager.flush();
+            entityManager.clear();
+        });
+        return System.nanoTime() - start;
+    }
+
+    private Game createGame() {
+        User user = new User();
+        user.setName("benchmark");
+        user.setEmail("benchmark@codewordle.test");
+        user.setPassword("hash");
+        user.setRole("ROLE_USER");
+        userRepository.save(user);
+
+        Word word = new Word();
+        word.setText("LAMBDA");
+        word.setTopic("Benchmark");
+        wordRepository.save(word);
+
+        Game game = new Game();
+        game.setUser(user);
+        game.setTargetWord(word);
+        game.setStatus(GameStatus.IN_PROGRESS);
+        game.setStartTime(LocalDateTime.now());
+        return gameRepository.save(game);
+    }
+}
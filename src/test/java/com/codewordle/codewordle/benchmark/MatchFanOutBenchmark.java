@@ -0,0 +1,166 @@
+package com.codewordle.codewordle.benchmark;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.dto.MatchStateResponse;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.service.GameService;
+import com.codewordle.codewordle.service.MatchBroadcaster;
+import com.codewordle.codewordle.service.MatchService;
+import com.codewordle.codewordle.service.WordIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Opens thousands of idle Server-Sent Event streams on one versus match over real HTTP connections,
+ * then reports how many request threads are busy while the streams sit idle (none should be: the
+ * pool only grew to absorb the connection burst) and how long each guess takes to reach every stream.
+ * Run with {@code ./mvnw test -Pbenchmark -Dversus.streams=2000}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MatchFanOutBenchmark {
+
+    private static final List<String> GUESSES = List.of("RAILS", "RESTS", "ROUTE", "RADAR", "RELAY");
+
+    private final int streams = Integer.getInteger("versus.streams", 2000);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private MatchBroadcaster broadcaster;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private WordIndex wordIndex;
+
+    @Test
+    void idleStreamsHoldNoThreadsAndGuessesReachThemAll() throws Exception {
+        testData.word("REDIS", "FanOut");
+        GUESSES.forEach(guess -> testData.word(guess, "FanOutGuesses"));
+        wordIndex.refresh();
+        User racer = testData.user("fanout-racer");
+        User watcher = testData.user("fanout-watcher");
+        MatchStateResponse match = matchService.createMatch(racer, "FanOut");
+        matchService.joinMatch(match.getMatchId(), watcher);
+
+        // One client thread, so the client does not inflate the thread counts; the streams never end
+        // on their own, hence shutdownNow rather than close.
+        ExecutorService clientExecutor = Executors.newSingleThreadExecutor();
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10)).executor(clientExecutor).build();
+        try {
+            run(client, match, watcher, racer);
+        } finally {
+            client.shutdownNow();
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private void run(HttpClient client, MatchStateResponse match, User watcher, User racer) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/matches/"
+                        + match.getMatchId() + "/events"))
+                .header("Authorization", testData.bearer(watcher))
+                .build();
+
+        long start = System.nanoTime();
+        AtomicReference<CountDownLatch> progress = new AtomicReference<>(new CountDownLatch(streams));
+        CountDownLatch snapshots = new CountDownLatch(streams);
+        for (int i = 0; i < streams; i++) {
+            client.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(new EventCounter(snapshots, progress)));
+        }
+        assertTrue(snapshots.await(2, TimeUnit.MINUTES), "not every stream opened");
+        double openSeconds = (System.nanoTime() - start) / 1e9;
+        // Let the request threads that accepted the burst go idle before counting.
+        Thread.sleep(2_000);
+        int[] requestThreads = requestThreads();
+        assertEquals(streams, broadcaster.subscriberCount());
+
+        long total = 0;
+        long worst = 0;
+        for (String guess : GUESSES) {
+            CountDownLatch latch = new CountDownLatch(streams);
+            progress.set(latch);
+            long guessStart = System.nanoTime();
+            gameService.makeGuess(match.getGameId(), guess, racer);
+            assertTrue(latch.await(1, TimeUnit.MINUTES), "not every stream received " + guess);
+            long elapsed = System.nanoTime() - guessStart;
+            total += elapsed;
+            worst = Math.max(worst, elapsed);
+        }
+
+        System.out.printf("versus fan-out: %,d streams opened in %.2f s, request threads while idle: %d busy, %d parked; "
+                        + "guess to all streams: mean %.1f ms, worst %.1f ms%n",
+                streams, openSeconds, requestThreads[0], requestThreads[1], total / 1e6 / GUESSES.size(), worst / 1e6);
+        assertEquals(0, requestThreads[0], "idle streams must not hold request threads");
+    }
+
+    /**
+     * @return the Tomcat request threads doing work, and those parked in the pool.
+     */
+    private static int[] requestThreads() {
+        int[] counts = new int[2];
+        for (ThreadInfo thread : ManagementFactory.getThreadMXBean().dumpAllThreads(false, false)) {
+            if (thread.getThreadName().startsWith("http-nio-") && thread.getThreadName().contains("-exec-")) {
+                boolean parked = thread.getThreadState() == Thread.State.WAITING
+                        || thread.getThreadState() == Thread.State.TIMED_WAITING;
+                counts[parked ? 1 : 0]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Counts down on the first snapshot event of its stream and on every progress event.
+     */
+    private record EventCounter(CountDownLatch snapshots, AtomicReference<CountDownLatch> progress)
+            implements Flow.Subscriber<String> {
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.equals("event:snapshot")) {
+                snapshots.countDown();
+            } else if (line.equals("event:progress")) {
+                progress.get().countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
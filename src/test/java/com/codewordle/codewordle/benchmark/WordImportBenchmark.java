@@ -0,0 +1,79 @@
+package com.codewordle.codewordle.benchmark;
+
+import com.codewordle.codewordle.dto.WordImportResponse;
+import com.codewordle.codewordle.service.WordImportService;
+import com.codewordle.codewordle.service.WordIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures the throughput of a large CSV word import. The input is generated on the fly,
+ * so the benchmark itself never holds the whole list in memory either.
+ * Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class WordImportBenchmark {
+
+    private static final int WORDS = 1_000_000;
+    private static final int TOPICS = 10;
+
+    @Autowired
+    private WordImportService wordImportService;
+    @Autowired
+    private WordIndex wordIndex;
+
+    @Test
+    void csvImportThroughput() {
+        WordImportResponse response = wordImportService.importCsv(new GeneratedCsv(WORDS), null);
+
+        System.out.printf("word import: %,d words in %d ms (%,.0f words/s)%n",
+                response.getImported(), response.getElapsedMillis(), response.getWordsPerSecond());
+        assertEquals(WORDS, response.getImported());
+        assertEquals(WORDS / TOPICS, wordIndex.topicSize("Bulk0"));
+    }
+
+    /**
+     * Streams {@code word<i>,Bulk<i % TOPICS>} lines without materializing them; {@code i} is spelled
+     * in letters, as words may only contain letters.
+     */
+    private static final class GeneratedCsv extends InputStream {
+        private final int lines;
+        private int next;
+        private byte[] current = new byte[0];
+        private int position;
+
+        private GeneratedCsv(int lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public int read() {
+            if (position == current.length) {
+                if (next == lines) {
+                    return -1;
+                }
+                current = ("word" + letters(next) + ",Bulk" + (next % TOPICS) + "\n").getBytes(StandardCharsets.US_ASCII);
+                position = 0;
+                next++;
+            }
+            return current[position++];
+        }
+
+        private static String letters(int number) {
+            StringBuilder letters = new StringBuilder();
+            do {
+                letters.append((char) ('a' + number % 26));
+                number /= 26;
+            } while (number > 0);
+            return letters.toString();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.codewordle.codewordle.config;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.service.GameService;
+import com.codewordle.codewordle.service.WordIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "codewordle.rate-limit.guess.per-second=0.1",
+        "codewordle.rate-limit.guess.burst=2",
+        "codewordle.rate-limit.start.per-second=0.05",
+        "codewordle.rate-limit.start.burst=1"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private WordIndex wordIndex;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void guessesOverTheLimitAreRejectedWithoutTouchingTheDatabase() throws Exception {
+        words();
+        User user = testData.user("limited-guesser");
+        Game game = gameService.startNewGame(user, "RateLimit");
+        String token = testData.bearer(user);
+
+        for (String word : new String[]{"QUOTA", "BURST"}) {
+            mockMvc.perform(json(post("/api/games/" + game.getId() + "/guess"), token, "{\"word\":\"" + word + "\"}"))
+                    .andExpect(status().isOk());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(json(post("/api/games/" + game.getId() + "/guess"), token, "{\"word\":\"QUOTA\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "10"));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void gameStartsHaveTheirOwnLimit() throws Exception {
+        words();
+        User user = testData.user("limited-starter");
+        String token = testData.bearer(user);
+
+        mockMvc.perform(json(post("/api/games/start"), token, "{\"topic\":\"RateLimit\"}"))
+                .andExpect(status().isOk());
+        // The second start would fail anyway (a game is in progress), but is shed before the service runs.
+        mockMvc.perform(json(post("/api/games/start"), token, "{\"topic\":\"RateLimit\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "20"));
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String token, String body) {
+        return request.header("Authorization", token).contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    private void words() {
+        if (wordIndex.topicSize("RateLimit") == 0) {
+            for (String text : new String[]{"LIMIT", "QUOTA", "BURST"}) {
+                testData.word(text, text.equals("LIMIT") ? "RateLimit" : "RateLimitGuesses");
+            }
+            wordIndex.refresh();
+        }
+    }
+}
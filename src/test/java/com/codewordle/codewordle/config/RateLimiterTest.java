@@ -0,0 +1,75 @@
+package com.codewordle.codewordle.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsTheBurstThenOneRequestPerInterval() {
+        AtomicLong clock = new AtomicLong(123 * SECOND);
+        RateLimiter limiter = new RateLimiter(2, 3, 100, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire(7));
+        }
+        assertEquals(SECOND / 2, limiter.tryAcquire(7));
+        // Another user has a bucket of its own.
+        assertEquals(0, limiter.tryAcquire(8));
+
+        clock.addAndGet(SECOND / 4);
+        assertEquals(SECOND / 4, limiter.tryAcquire(7));
+        clock.addAndGet(SECOND / 4);
+        assertEquals(0, limiter.tryAcquire(7));
+        assertTrue(limiter.tryAcquire(7) > 0);
+
+        // After a long pause the bucket is full again, but holds no more than the burst.
+        clock.addAndGet(60 * SECOND);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire(7));
+        }
+        assertTrue(limiter.tryAcquire(7) > 0);
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedTheBurst() throws Exception {
+        // The clock stands still, so exactly the burst may pass however the threads interleave.
+        RateLimiter limiter = new RateLimiter(1, 50, 100, () -> 42L);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> allowed = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            allowed.add(executor.submit(() -> {
+                start.await();
+                int count = 0;
+                for (int i = 0; i < 1_000; i++) {
+                    if (limiter.tryAcquire(1) == 0) {
+                        count++;
+                    }
+                }
+                return count;
+            }));
+        }
+        start.countDown();
+        int total = 0;
+        for (Future<Integer> future : allowed) {
+            total += future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertEquals(50, total);
+    }
+}
@@ -0,0 +1,49 @@
+package com.codewordle.codewordle.controller;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void logoutRevokesTheTokensOfTheUser() throws Exception {
+        String token = testData.bearer(testData.user("logout"));
+        mockMvc.perform(get("/api/games/active").header("Authorization", token))
+                .andExpect(status().is2xxSuccessful());
+
+        mockMvc.perform(post("/auth/logout").header("Authorization", token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/games/active").header("Authorization", token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/auth/logout"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void aLoginRightAfterLogoutGetsAValidToken() throws Exception {
+        User user = testData.user("relogin");
+        mockMvc.perform(post("/auth/logout").header("Authorization", testData.bearer(user)))
+                .andExpect(status().isNoContent());
+
+        String token = testData.bearer(user);
+        mockMvc.perform(get("/api/games/active").header("Authorization", token))
+                .andExpect(status().is2xxSuccessful());
+    }
+}
@@ -0,0 +1,62 @@
+package com.codewordle.codewordle.controller;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.service.GameService;
+import com.codewordle.codewordle.service.WordIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class GameControllerTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private WordIndex wordIndex;
+
+    @Test
+    void invalidIdempotencyKeysAreBadRequests() throws Exception {
+        User user = testData.user("idempotency-key");
+        testData.word("CACHE", "IdempotencyKey");
+        wordIndex.refresh();
+        Game game = gameService.startNewGame(user, "IdempotencyKey");
+
+        for (String key : new String[]{" ", "k".repeat(256)}) {
+            mockMvc.perform(post("/api/games/" + game.getId() + "/guess")
+                            .header("Authorization", testData.bearer(user))
+                            .header("Idempotency-Key", key)
+                            .contentType(MediaType.APPLICATION_JSON).content("{\"word\":\"CACHE\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                    .andExpect(jsonPath("$.detail").value("The Idempotency-Key must have 1 to 255 characters"));
+        }
+    }
+
+    @Test
+    void unknownGamesAreNotFound() throws Exception {
+        User user = testData.user("unknown-game");
+
+        mockMvc.perform(get("/api/games/" + Long.MAX_VALUE + "/hint")
+                        .header("Authorization", testData.bearer(user)))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.detail").value("Game not found with id: " + Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,276 @@
+package com.codewordle.codewordle.load;
+
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.WordRepository;
+import com.codewordle.codewordle.service.WordIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test: boots the whole application on a random port against the embedded H2
+ * database and drives virtual users through register, login, start, guesses and active-game polls.
+ * Sign-up and login run as a ramp-up phase; the game endpoints are measured in a second phase.
+ * <p>
+ * Run with {@code ./mvnw test -Pload}. Settings (system properties):
+ * <ul>
+ *     <li>{@code load.users} – concurrent virtual users (default 10)</li>
+ *     <li>{@code load.games-per-user} – games each user plays (default 5)</li>
+ *     <li>{@code load.think-time-ms} – mean pause between two requests of a user (default 50)</li>
+ *     <li>{@code load.slo.p99-ms} – maximum p99 latency of any game endpoint (default 500)</li>
+ *     <li>{@code load.slo.error-rate} – maximum share of failed requests (default 0.01)</li>
+ * </ul>
+ * Authentication endpoints are reported but excluded from the latency SLO: BCrypt is slow on purpose
+ * and answers 503 + Retry-After under bursts, which the virtual users honour.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class GameFlowLoadTest {
+
+    private static final String TOPIC = "LoadTest";
+    private static final List<String> WORDS = List.of(
+            "CLASE", "STACK", "QUEUE", "ARRAY", "BUILD", "MERGE", "CACHE", "FETCH", "PARSE", "SCOPE",
+            "TOKEN", "SHELL", "PROXY", "REDIS", "NGINX", "FLOAT", "CONST", "FINAL", "SUPER", "THROW");
+
+    private final int users = Integer.getInteger("load.users", 10);
+    private final int gamesPerUser = Integer.getInteger("load.games-per-user", 5);
+    private final long thinkTimeMs = Long.getLong("load.think-time-ms", 50);
+    private final long sloP99Ms = Long.getLong("load.slo.p99-ms", 500);
+    private final double sloErrorRate = Double.parseDouble(System.getProperty("load.slo.error-rate", "0.01"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private HttpClient httpClient;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WordRepository wordRepository;
+    @Autowired
+    private WordIndex wordIndex;
+
+    @Test
+    void fullGameFlowMeetsSlo() throws Exception {
+        seedWords();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        // Ramp-up: every virtual user signs up and logs in before the measured game phase starts,
+        // so the CPU-bound password hashing does not distort the latencies of the game endpoints.
+        String[] tokens = new String[users];
+        double authSeconds = runVirtualUsers(userNumber -> tokens[userNumber] = authenticate(userNumber));
+        double gameSeconds = runVirtualUsers(userNumber -> {
+            if (tokens[userNumber] != null) {
+                play(tokens[userNumber]);
+            }
+        });
+
+        report(authSeconds, gameSeconds);
+        assertSlo();
+    }
+
+    private double runVirtualUsers(VirtualUser virtualUser) throws InterruptedException {
+        long start = System.nanoTime();
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                int userNumber = i;
+                virtualUsers.submit(() -> {
+                    try {
+                        virtualUser.run(userNumber);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            virtualUsers.shutdown();
+            assertTrue(virtualUsers.awaitTermination(30, TimeUnit.MINUTES), "virtual users did not finish");
+        }
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+    private String authenticate(int userNumber) throws InterruptedException {
+        String email = "load-" + userNumber + "-" + System.nanoTime() + "@codewordle.test";
+        String password = "load-password";
+        call("POST /auth/register", "/auth/register", null, Map.of(
+                "name", "load" + userNumber + "-" + ThreadLocalRandom.current().nextInt(1_000_000),
+                "email", email, "password", password, "confirmPassword", password));
+        think();
+        JsonNode login = call("POST /auth/login", "/auth/login", null, Map.of("email", email, "password", password));
+        return login == null ? null : login.get("token").asText();
+    }
+
+    private void play(String token) throws InterruptedException {
+        for (int game = 0; game < gamesPerUser; game++) {
+            think();
+            JsonNode started = call("POST /api/games/start", "/api/games/start", token, Map.of("topic", TOPIC));
+            if (started == null) {
+                return;
+            }
+            long gameId = started.get("gameId").asLong();
+            String status = "IN_PROGRESS";
+            while ("IN_PROGRESS".equals(status)) {
+                think();
+                String guess = WORDS.get(ThreadLocalRandom.current().nextInt(WORDS.size()));
+                JsonNode result = call("POST /api/games/{id}/guess", "/api/games/" + gameId + "/guess", token,
+                        Map.of("word", guess));
+                if (result == null) {
+                    return;
+                }
+                status = result.get("gameStatus").asText();
+                think();
+                get("GET /api/games/active", "/api/games/active", token);
+            }
+        }
+    }
+
+    private JsonNode call(String endpoint, String path, String token, Map<String, String> body) throws InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json");
+        try {
+            request.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return send(endpoint, request, token);
+    }
+
+    private JsonNode get(String endpoint, String path, String token) throws InterruptedException {
+        return send(endpoint, HttpRequest.newBuilder(uri(path)).GET(), token);
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder request, String token) throws InterruptedException {
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest built = request.timeout(Duration.ofSeconds(30)).build();
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, e -> new EndpointStats());
+        while (true) {
+            long start = System.nanoTime();
+            HttpResponse<String> response;
+            try {
+                response = httpClient.send(built, HttpResponse.BodyHandlers.ofString());
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                endpointStats.errors.increment();
+                return null;
+            }
+            long latency = System.nanoTime() - start;
+
+            if (response.statusCode() == 503 || response.statusCode() == 429) {
+                // Backpressure: honour Retry-After like a well-behaved client.
+                endpointStats.retries.increment();
+                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                Thread.sleep(TimeUnit.SECONDS.toMillis(retryAfter));
+                continue;
+            }
+            endpointStats.latencies.recordValue(latency);
+            if (response.statusCode() >= 400) {
+                endpointStats.errors.increment();
+                return null;
+            }
+            try {
+                return response.body().isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+            } catch (Exception e) {
+                endpointStats.errors.increment();
+                return null;
+            }
+        }
+    }
+
+    private void think() throws InterruptedException {
+        if (thinkTimeMs > 0) {
+            // Exponential think times around the configured mean.
+            double sample = -Math.log(1 - ThreadLocalRandom.current().nextDouble());
+            Thread.sleep((long) (sample * thinkTimeMs));
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void seedWords() {
+        List<Word> words = new ArrayList<>();
+        for (String text : WORDS) {
+            Word word = new Word();
+            word.setText(text);
+            word.setTopic(TOPIC);
+            words.add(word);
+        }
+        wordRepository.saveAll(words);
+        wordIndex.refresh();
+    }
+
+    private void report(double authSeconds, double gameSeconds) {
+        System.out.printf("%nLoad test: %d users x %d games, think time %d ms, sign-up %.1f s, games %.1f s%n",
+                users, gamesPerUser, thinkTimeMs, authSeconds, gameSeconds);
+        System.out.printf("%-28s %8s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "retries", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        stats.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            Histogram h = entry.getValue().latencies;
+            double elapsedSeconds = entry.getKey().contains("/auth/") ? authSeconds : gameSeconds;
+            System.out.printf("%-28s %8d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), h.getTotalCount(), entry.getValue().errors.sum(), entry.getValue().retries.sum(),
+                    h.getTotalCount() / elapsedSeconds,
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)),
+                    millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+        });
+    }
+
+    private void assertSlo() {
+        long requests = stats.values().stream().mapToLong(s -> s.latencies.getTotalCount()).sum();
+        long errors = stats.values().stream().mapToLong(s -> s.errors.sum()).sum();
+        assertTrue(requests > 0, "no requests were completed");
+        assertTrue((double) errors / requests <= sloErrorRate,
+                "error rate " + errors + "/" + requests + " exceeds " + sloErrorRate);
+        stats.forEach((endpoint, endpointStats) -> {
+            if (endpoint.contains("/auth/")) {
+                return;
+            }
+            double p99 = millis(endpointStats.latencies.getValueAtPercentile(99));
+            assertTrue(p99 <= sloP99Ms, endpoint + " p99 " + p99 + " ms exceeds " + sloP99Ms + " ms");
+        });
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    @FunctionalInterface
+    private interface VirtualUser {
+        void run(int userNumber) throws InterruptedException;
+    }
+
+    private static final class EndpointStats {
+        private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+    }
+}
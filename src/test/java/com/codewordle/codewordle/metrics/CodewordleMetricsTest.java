@@ -0,0 +1,95 @@
+package com.codewordle.codewordle.metrics;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.service.WordIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class CodewordleMetricsTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private WordIndex wordIndex;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void recordsGameAuthAndStatementMetrics() throws Exception {
+        User user = testData.user("metrics");
+
+        testData.word("MAVEN", "Metrics");
+        wordIndex.refresh();
+
+        String bearer = testData.bearer(user);
+        String started = mockMvc.perform(post("/api/games/start").header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"topic\":\"Metrics\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long gameId = objectMapper.readTree(started).get("gameId").asLong();
+        mockMvc.perform(post("/api/games/" + gameId + "/guess").header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"word\":\"maven\"}"))
+                .andExpect(status().isOk());
+
+        assertEquals(1, meterRegistry.get("codewordle.game.start").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("codewordle.game.guess").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("codewordle.feedback").timer().count());
+        assertEquals(2, meterRegistry.get("codewordle.jwt.verification").tag("outcome", "authenticated").timer().count());
+        assertEquals(1, meterRegistry.get("codewordle.games.finished")
+                .tag("topic", "Metrics").tag("result", "won").counter().count());
+        // Game + word fetch, guess insert and game update, plus possibly a sequence call.
+        double guessStatements = meterRegistry.get("codewordle.db.statements")
+                .tag("uri", "/api/games/{gameId}/guess").summary().totalAmount();
+        assertTrue(guessStatements >= 3 && guessStatements <= 4, "statements: " + guessStatements);
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", bearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus")
+                        .header("Authorization", testData.bearer(testData.user("metrics-scraper", "ROLE_ADMIN"))))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("codewordle_games_finished_total{result=\"won\",topic=\"Metrics\"}")));
+    }
+
+    @Test
+    void disabledMetricsRecordNothing() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CodewordleMetrics metrics = new CodewordleMetrics(false, registry);
+
+        long start = metrics.start();
+        metrics.recordGuess(start, true);
+        metrics.gameFinished("Java", GameStatus.WON);
+        metrics.recordStatements("/api/games/active", 2);
+
+        assertEquals(0, start);
+        assertEquals(0, registry.get("codewordle.game.guess").timers().stream().mapToLong(t -> t.count()).sum());
+        assertTrue(registry.find("codewordle.games.finished").counters().isEmpty());
+        assertTrue(registry.find("codewordle.db.statements").summaries().isEmpty());
+    }
+}
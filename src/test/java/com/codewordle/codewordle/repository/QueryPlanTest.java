@@ -0,0 +1,65 @@
+package com.codewordle.codewordle.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that H2 answers the hot queries with the indexes created by the migrations instead of table scans.
+ */
+@SpringBootTest
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void activeGameLookupUsesUserStatusIndex() {
+        assertUsesIndex("SELECT * FROM games WHERE user_id = 1 AND status = 'IN_PROGRESS'",
+                "IDX_GAMES_USER_STATUS");
+    }
+
+    @Test
+    void guessHistoryUsesGameTimestampIndex() {
+        assertUsesIndex("SELECT id, game_id, guessed_word, timestamp FROM guesses WHERE game_id = 1 ORDER BY timestamp",
+                "IDX_GUESSES_GAME_TIMESTAMP");
+    }
+
+    @Test
+    void guessCountIsAnIndexLookup() {
+        // Either the composite index or the foreign key index, but never a table scan.
+        String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT COUNT(*) FROM guesses WHERE game_id = 1", String.class);
+        assertTrue(plan.contains(": GAME_ID = ") && !plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void historyPagesSeekTheUserEndTimeIndex() {
+        // "index sorted": rows are read in index order and the scan stops at the page size, no sort.
+        assertUsesIndex("SELECT id FROM games WHERE user_id = 1 AND end_time IS NOT NULL "
+                + "ORDER BY user_id, end_time DESC, id DESC FETCH FIRST 20 ROWS ONLY", "IDX_GAMES_USER_END_TIME");
+        assertUsesIndex("SELECT id FROM games WHERE user_id = 1 AND end_time IS NOT NULL "
+                + "ORDER BY user_id, end_time DESC, id DESC FETCH FIRST 20 ROWS ONLY", "index sorted");
+        assertUsesIndex("SELECT id FROM games WHERE user_id = 1 AND end_time <= TIMESTAMP '2026-01-01 12:00:00' "
+                + "AND (end_time < TIMESTAMP '2026-01-01 12:00:00' OR id < 100) "
+                + "ORDER BY user_id, end_time DESC, id DESC FETCH FIRST 20 ROWS ONLY", "IDX_GAMES_USER_END_TIME");
+    }
+
+    @Test
+    void wordsByTopicUseTopicIndex() {
+        assertUsesIndex("SELECT * FROM words WHERE topic = 'Java'", "IDX_WORDS_TOPIC");
+    }
+
+    @Test
+    void importDuplicateCheckLooksUpEachText() {
+        assertUsesIndex("SELECT topic, text FROM words WHERE text IN ('KAFKA', 'REDIS') AND topic IN ('Java', 'Ops')",
+                "IDX_WORDS_TEXT_TOPIC");
+    }
+
+    private void assertUsesIndex(String sql, String index) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertTrue(plan.contains(index), plan);
+    }
+}
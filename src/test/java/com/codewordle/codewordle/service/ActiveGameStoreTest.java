@@ -0,0 +1,89 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.repository.GameRepository;
+import com.codewordle.codewordle.repository.GuessRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "codewordle.games.write-behind.enabled=true",
+        "codewordle.games.write-behind.flush-interval-ms=3600000"
+})
+class ActiveGameStoreTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private ActiveGameStore activeGameStore;
+    @Autowired
+    private WordIndex wordIndex;
+    @Autowired
+    private GameRepository gameRepository;
+    @Autowired
+    private GuessRepository guessRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void guessesAreServedFromMemoryAndFlushedInBatches() {
+        User user = testData.user("writebehind");
+
+        testData.word("HILO", "WriteBehind");
+        wordIndex.refresh();
+
+        Game game = gameService.startNewGame(user, "WriteBehind");
+        gameService.makeGuess(game.getId(), "java", user);
+        assertEquals(GameStatus.WON, gameService.makeGuess(game.getId(), "hilo", user).getGameStatus());
+
+        // Nothing is written until the store flushes.
+        assertEquals(0, gameRepository.findById(game.getId()).orElseThrow().getAttempts());
+        assertTrue(gameService.getActiveGameForUser(user).isEmpty());
+
+        activeGameStore.flush();
+
+        Game flushed = gameRepository.findById(game.getId()).orElseThrow();
+        assertEquals(GameStatus.WON, flushed.getStatus());
+        assertEquals(2, flushed.getAttempts());
+        assertEquals(2, guessRepository.countByGame(flushed));
+    }
+
+    @Test
+    void aRejectedGuessIsDeadLetteredWithoutBlockingTheRest() {
+        User doomed = testData.user("writebehind-doomed");
+        User player = testData.user("writebehind-player");
+        testData.word("LOOP", "WriteBehindFailure");
+        wordIndex.refresh();
+
+        Game lost = gameService.startNewGame(doomed, "WriteBehindFailure");
+        Game kept = gameService.startNewGame(player, "WriteBehindFailure");
+        gameService.makeGuess(lost.getId(), "java", doomed);
+        gameService.makeGuess(kept.getId(), "java", player);
+        gameService.makeGuess(kept.getId(), "hilo", player);
+        // The game disappears before its guess is flushed: that insert can never succeed.
+        jdbcTemplate.update("DELETE FROM games WHERE id = ?", lost.getId());
+        double deadLettersBefore = meterRegistry.get("codewordle.games.write-behind.dead-letters").counter().count();
+
+        activeGameStore.flush();
+
+        assertEquals(deadLettersBefore + 1,
+                meterRegistry.get("codewordle.games.write-behind.dead-letters").counter().count());
+        assertEquals(0, meterRegistry.get("codewordle.games.write-behind.backlog").gauge().value());
+        Game flushed = gameRepository.findById(kept.getId()).orElseThrow();
+        assertEquals(2, flushed.getAttempts());
+        assertEquals(2, guessRepository.countByGame(flushed));
+    }
+}
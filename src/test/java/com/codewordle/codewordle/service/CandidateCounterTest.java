@@ -0,0 +1,81 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.dto.GuessResult;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.repository.GameRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class CandidateCounterTest {
+
+    private static final List<String> WORDS = List.of("KAFKA", "REDIS", "NGINX", "MYSQL", "MAVEN", "MONGO",
+            "LINUX", "REACT", "SWIFT", "KOTLIN", "GRADLE");
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private CandidateCounter candidateCounter;
+    @Autowired
+    private WordIndex wordIndex;
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Test
+    void everyGuessNarrowsTheCandidatesLikeAFullScan() {
+        WORDS.forEach(text -> testData.word(text, "Candidates"));
+        wordIndex.refresh();
+        User user = testData.user("candidates");
+
+        Game game = gameService.startNewGame(user, "Candidates");
+        String target = gameRepository.findWithTargetWordById(game.getId()).orElseThrow().getTargetWord().getText();
+        assertEquals(expected(target, List.of()), gameService.getActiveGameForUser(user).orElseThrow().getRemainingCandidates());
+
+        List<String> guesses = new ArrayList<>();
+        // The target is random: guess words of its length.
+        for (String guess : WORDS.stream().filter(word -> word.length() == target.length()).limit(4).toList()) {
+            if (guess.equals(target)) {
+                continue;
+            }
+            guesses.add(guess);
+            GuessResult result = gameService.makeGuess(game.getId(), guess, user);
+            assertEquals(expected(target, guesses), result.getRemainingCandidates());
+        }
+        assertEquals(expected(target, guesses), gameService.getActiveGameForUser(user).orElseThrow().getRemainingCandidates());
+        assertEquals(1, gameService.makeGuess(game.getId(), target, user).getRemainingCandidates());
+    }
+
+    @Test
+    void gamesAreRebuiltWhenTheTopicWordsChange() {
+        testData.word("GRAPH", "CandidatesChange");
+        testData.word("GRAIN", "CandidatesChange");
+        wordIndex.refresh();
+        assertEquals(2, candidateCounter.remaining(-1, "CandidatesChange", "GRAPH", List.of()));
+        assertEquals(1, candidateCounter.remaining(-1, "CandidatesChange", "GRAPH", List.of("GRAIN")));
+
+        // A new word consistent with the feedback is counted once the index changes.
+        testData.word("GRASP", "CandidatesChange");
+        wordIndex.refresh();
+        assertEquals(2, candidateCounter.remaining(-1, "CandidatesChange", "GRAPH", List.of("GRAIN")));
+        assertEquals(1, candidateCounter.afterGuess(-1, "CandidatesChange", "GRAPH", "GRASP",
+                FeedbackEngine.compute("GRASP", "GRAPH"), 2, () -> List.of("GRAIN", "GRASP")));
+    }
+
+    private static long expected(String target, List<String> guesses) {
+        return WORDS.stream()
+                .filter(word -> word.length() == target.length())
+                .filter(word -> guesses.stream().allMatch(guess ->
+                        FeedbackEngine.compute(guess, word) == FeedbackEngine.compute(guess, target)))
+                .count();
+    }
+}
@@ -0,0 +1,112 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.dto.GuessResult;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.DailyPuzzleRepository;
+import com.codewordle.codewordle.repository.DailyPuzzleRepository.DailyPuzzle;
+import com.codewordle.codewordle.repository.GameRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class DailyPuzzleServiceTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private DailyPuzzleService dailyPuzzleService;
+    @Autowired
+    private DailyPuzzleRepository dailyPuzzleRepository;
+    @Autowired
+    private WordIndex wordIndex;
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Test
+    void everyPlayerGetsTheSameWordOncePerDay() {
+        for (String text : List.of("KAFKA", "REDIS", "NGINX", "MYSQL")) {
+            testData.word(text, "Daily");
+        }
+        wordIndex.refresh();
+
+        User ada = testData.user("daily-ada");
+        User linus = testData.user("daily-linus");
+        Game adaGame = gameService.startDailyGame(ada, "Daily");
+        Game linusGame = gameService.startDailyGame(linus, "Daily");
+
+        DailyPuzzle puzzle = dailyPuzzleService.todaysPuzzle("Daily").orElseThrow();
+        assertEquals(puzzle.wordId(), gameRepository.findWithTargetWordById(adaGame.getId()).orElseThrow().getTargetWord().getId());
+        assertEquals(puzzle.wordId(), gameRepository.findWithTargetWordById(linusGame.getId()).orElseThrow().getTargetWord().getId());
+        assertEquals(puzzle.date(), gameRepository.findById(adaGame.getId()).orElseThrow().getPuzzleDate());
+
+        // The memoized feedback is the one the engine computes.
+        String opener = puzzle.text().equals("KAFKA") ? "REDIS" : "KAFKA";
+        GuessResult result = gameService.makeGuess(adaGame.getId(), opener, ada);
+        GuessResult memoized = gameService.makeGuess(linusGame.getId(), opener, linus);
+        long expected = FeedbackEngine.compute(opener, puzzle.text());
+        for (int i = 0; i < opener.length(); i++) {
+            assertEquals(FeedbackEngine.status(expected, i), result.getFeedback().get(i).getStatus());
+            assertEquals(FeedbackEngine.status(expected, i), memoized.getFeedback().get(i).getStatus());
+        }
+        gameService.makeGuess(adaGame.getId(), puzzle.text(), ada);
+        assertEquals(GameStatus.WON, gameRepository.findById(adaGame.getId()).orElseThrow().getStatus());
+
+        // A random game is still allowed, a second daily game of the topic is not.
+        assertThrows(IllegalStateException.class, () -> gameService.startDailyGame(ada, "Daily"));
+        gameService.startNewGame(ada, "Daily");
+    }
+
+    @Test
+    void storedChoicesAreKeptAndMissingDaysAreChosenDeterministically() {
+        Word word = testData.word("SPARK", "DailyAhead");
+        wordIndex.refresh();
+
+        LocalDate day = LocalDate.of(2030, 1, 1);
+        dailyPuzzleService.precompute(day);
+        List<DailyPuzzle> puzzles = dailyPuzzleRepository.findFrom(day).stream()
+                .filter(puzzle -> puzzle.topic().equals("DailyAhead"))
+                .toList();
+        assertEquals(List.of(day, day.plusDays(1)), puzzles.stream().map(DailyPuzzle::date).sorted().toList());
+        assertEquals(dailyPuzzleService.choose(day, "DailyAhead"), dailyPuzzleService.choose(day, "DailyAhead"));
+
+        // Another word in the topic does not change a day that was already chosen.
+        testData.word("FLINK", "DailyAhead");
+        wordIndex.refresh();
+        dailyPuzzleService.precompute(day);
+        assertEquals(word.getId(), dailyPuzzleRepository.findFrom(day).stream()
+                .filter(puzzle -> puzzle.topic().equals("DailyAhead") && puzzle.date().equals(day))
+                .findFirst().orElseThrow().wordId());
+    }
+
+    @Test
+    void aNewTopicTakesTheChoiceAnotherInstanceStoredFirst() {
+        Word first = testData.word("TOKIO", "DailyLate");
+        Word second = testData.word("HYPER", "DailyLate");
+        wordIndex.refresh();
+
+        // Another instance stored today's word of the topic before this one saw the topic.
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        long theirs = dailyPuzzleService.choose(today, "DailyLate").orElseThrow().id() == first.getId()
+                ? second.getId() : first.getId();
+        assertTrue(dailyPuzzleRepository.insertIfAbsent(today, "DailyLate", theirs));
+        assertFalse(dailyPuzzleRepository.insertIfAbsent(today, "DailyLate", first.getId()));
+
+        assertEquals(theirs, dailyPuzzleService.todaysPuzzle("DailyLate").orElseThrow().wordId());
+    }
+}
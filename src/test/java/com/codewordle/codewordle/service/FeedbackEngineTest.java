@@ -0,0 +1,126 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.dto.LetterFeedback;
+import com.codewordle.codewordle.model.FeedbackStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedbackEngineTest {
+
+    @Test
+    void matchesReferenceForEveryWordPairOverSmallAlphabets() {
+        // Three letters are enough to produce every duplicate-letter arrangement up to length 5.
+        assertEquivalentForAllPairs("ABC", 5);
+        // A non-ASCII letter exercises the slow path.
+        assertEquivalentForAllPairs("AÑB", 4);
+    }
+
+    @Test
+    void handlesDuplicateLetters() {
+        assertEquals("WWIII", render(FeedbackEngine.compute("LLAMA", "HELLO")));
+        assertEquals("CIIIC", render(FeedbackEngine.compute("SPEES", "SHOTS")));
+        assertEquals("WICWI", render(FeedbackEngine.compute("EEEAB", "CAEDE")));
+        assertEquals("CCCCC", render(FeedbackEngine.compute("CLASE", "CLASE")));
+    }
+
+    @Test
+    void recognisesSolvedFeedback() {
+        assertTrue(FeedbackEngine.isSolved(FeedbackEngine.compute("STREAM", "STREAM"), 6));
+        assertEquals(FeedbackEngine.solved(FeedbackEngine.MAX_LENGTH),
+                FeedbackEngine.compute("A".repeat(FeedbackEngine.MAX_LENGTH), "A".repeat(FeedbackEngine.MAX_LENGTH)));
+    }
+
+    @Test
+    void rejectsUnsupportedInput() {
+        assertThrows(IllegalArgumentException.class, () -> FeedbackEngine.compute("JVM", "HILO"));
+        String tooLong = "A".repeat(FeedbackEngine.MAX_LENGTH + 1);
+        assertThrows(IllegalArgumentException.class, () -> FeedbackEngine.compute(tooLong, tooLong));
+    }
+
+    private static void assertEquivalentForAllPairs(String alphabet, int maxLength) {
+        for (int length = 1; length <= maxLength; length++) {
+            List<String> words = allWords(alphabet, length);
+            for (String guess : words) {
+                for (String target : words) {
+                    List<LetterFeedback> expected = referenceFeedback(guess, target);
+                    List<LetterFeedback> actual = FeedbackEngine.toLetterFeedback(guess, FeedbackEngine.compute(guess, target));
+                    for (int i = 0; i < length; i++) {
+                        assertEquals(expected.get(i).getLetter(), actual.get(i).getLetter());
+                        assertEquals(expected.get(i).getStatus(), actual.get(i).getStatus(),
+                                () -> guess + " vs " + target);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<String> allWords(String alphabet, int length) {
+        List<String> words = new ArrayList<>();
+        words.add("");
+        for (int i = 0; i < length; i++) {
+            List<String> longer = new ArrayList<>();
+            for (String prefix : words) {
+                for (char c : alphabet.toCharArray()) {
+                    longer.add(prefix + c);
+                }
+            }
+            words = longer;
+        }
+        return words;
+    }
+
+    private static String render(long packed) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            sb.append(switch (FeedbackEngine.status(packed, i)) {
+                case CORRECT_POSITION -> 'C';
+                case WRONG_POSITION -> 'W';
+                case INCORRECT -> 'I';
+            });
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The original nested-scan implementation from GameService, kept as the reference behaviour.
+     */
+    private static List<LetterFeedback> referenceFeedback(String guess, String target) {
+        List<LetterFeedback> feedbackList = new ArrayList<>();
+        char[] guessChars = guess.toCharArray();
+        char[] targetChars = target.toCharArray();
+        boolean[] targetLetterUsed = new boolean[target.length()];
+
+        for (int i = 0; i < guess.length(); i++) {
+            if (guessChars[i] == targetChars[i]) {
+                feedbackList.add(new LetterFeedback(guessChars[i], FeedbackStatus.CORRECT_POSITION));
+                targetLetterUsed[i] = true;
+            } else {
+                feedbackList.add(null);
+            }
+        }
+
+        for (int i = 0; i < guess.length(); i++) {
+            if (feedbackList.get(i) == null) {
+                boolean foundInWrongPosition = false;
+                for (int j = 0; j < target.length(); j++) {
+                    if (guessChars[i] == targetChars[j] && !targetLetterUsed[j]) {
+                        feedbackList.set(i, new LetterFeedback(guessChars[i], FeedbackStatus.WRONG_POSITION));
+                        targetLetterUsed[j] = true;
+                        foundInWrongPosition = true;
+                        break;
+                    }
+                }
+                if (!foundInWrongPosition) {
+                    feedbackList.set(i, new LetterFeedback(guessChars[i], FeedbackStatus.INCORRECT));
+                }
+            }
+        }
+        return feedbackList;
+    }
+}
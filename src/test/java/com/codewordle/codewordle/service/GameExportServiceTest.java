@@ -0,0 +1,195 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.model.Guess;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.GameRepository;
+import com.codewordle.codewordle.repository.GuessRepository;
+import com.codewordle.codewordle.repository.UserRepository;
+import com.codewordle.codewordle.repository.WordRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class GameExportServiceTest {
+
+    @Autowired
+    private GameExportService gameExportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WordRepository wordRepository;
+    @Autowired
+    private GameRepository gameRepository;
+    @Autowired
+    private GuessRepository guessRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void exportsOneJsonObjectPerRow() throws Exception {
+        Game game = finishedGame("export-lines");
+
+        List<JsonNode> games = parse(export("/api/admin/export/games", "application/x-ndjson"));
+        assertEquals(count("games"), games.size());
+        JsonNode exported = games.stream().filter(line -> line.get("id").asLong() == game.getId()).findFirst().orElseThrow();
+        assertEquals(game.getUser().getId(), exported.get("userId").asInt());
+        assertEquals("Export", exported.get("topic").asText());
+        assertEquals("KAFKA", exported.get("word").asText());
+        assertEquals("WON", exported.get("status").asText());
+        assertEquals(2, exported.get("attempts").asInt());
+        assertEquals("2026-02-01T10:00", exported.get("startTime").asText());
+        assertEquals("2026-02-01T10:02", exported.get("endTime").asText());
+        assertTrue(exported.get("puzzleDate").isNull());
+
+        List<JsonNode> guesses = parse(export("/api/admin/export/guesses", "application/x-ndjson"));
+        assertEquals(count("guesses"), guesses.size());
+        List<String> words = guesses.stream().filter(line -> line.get("gameId").asLong() == game.getId())
+                .map(line -> line.get("guess").asText()).toList();
+        assertEquals(List.of("KOTLIN", "KAFKA"), words);
+    }
+
+    @Test
+    void gzipExportDecompressesToTheSameLines() throws Exception {
+        finishedGame("export-gzip");
+        byte[] compressed = export("/api/admin/export/guesses?gzip=true", "application/gzip");
+        byte[] plain;
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            plain = input.readAllBytes();
+        }
+        assertEquals(count("guesses"), parse(plain).size());
+    }
+
+    @Test
+    void exportWritesDirectlyToTheStream() throws IOException {
+        finishedGame("export-direct");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rows = gameExportService.export(GameExportService.Dataset.GAMES, output, false);
+        assertEquals(count("games"), rows);
+        assertEquals(rows, parse(output.toByteArray()).size());
+    }
+
+    @Test
+    void gzipExportIsCompleteAndLeavesTheStreamOpen() throws IOException {
+        finishedGame("export-open");
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        long rows = gameExportService.export(GameExportService.Dataset.GAMES, output, true);
+        assertFalse(closed.get());
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            assertEquals(rows, parse(input.readAllBytes()).size());
+        }
+    }
+
+    @Test
+    void exportRequiresTheAdminRole() throws Exception {
+        mockMvc.perform(get("/api/admin/export/games").header("Authorization", bearer("ROLE_USER", 9101)))
+                .andExpect(status().isForbidden());
+    }
+
+    private byte[] export(String url, String contentType) throws Exception {
+        MvcResult started = mockMvc.perform(get(url).header("Authorization", bearer("ROLE_ADMIN", 9102)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(contentType))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private List<JsonNode> parse(byte[] ndjson) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : new String(ndjson, StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private Game finishedGame(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@codewordle.test");
+        user.setPassword("hash");
+        user.setRole("ROLE_USER");
+        userRepository.save(user);
+        Word word = new Word();
+        word.setText("KAFKA");
+        word.setTopic("Export");
+        wordRepository.save(word);
+
+        LocalDateTime start = LocalDateTime.of(2026, 2, 1, 10, 0);
+        Game game = new Game();
+        game.setUser(user);
+        game.setTargetWord(word);
+        game.setStatus(GameStatus.WON);
+        game.setAttempts(2);
+        game.setStartTime(start);
+        game.setEndTime(start.plusMinutes(2));
+        gameRepository.save(game);
+        guessRepository.saveAll(List.of(guess(game, "KOTLIN", start.plusMinutes(1)), guess(game, "KAFKA", start.plusMinutes(2))));
+        return game;
+    }
+
+    private static Guess guess(Game game, String text, LocalDateTime timestamp) {
+        Guess guess = new Guess();
+        guess.setGame(game);
+        guess.setGuessedWord(text);
+        guess.setTimestamp(timestamp);
+        return guess;
+    }
+
+    private String bearer(String role, int id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("export-admin-" + id);
+        user.setEmail("export-admin-" + id + "@codewordle.test");
+        user.setRole(role);
+        return "Bearer " + jwtService.generateToken(user);
+    }
+}
@@ -0,0 +1,126 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.dto.GameHistoryEntry;
+import com.codewordle.codewordle.dto.GameHistoryResponse;
+import com.codewordle.codewordle.exception.InvalidRequestException;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.GameRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class GameHistoryServiceTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private GameHistoryService gameHistoryService;
+    @Autowired
+    private GameRepository gameRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void pagesFollowEndTimeAndIdWithoutGapsOrRepeats() {
+        User user = testData.user("history");
+        User other = testData.user("history-other");
+        Word word = testData.word("GRAPHQL", "History");
+
+        // 25 finished games, three sharing each end time, plus one in progress and another player's game.
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            games.add(game(user, word, base.plusMinutes(i / 3), i % 2 == 0 ? GameStatus.WON : GameStatus.LOST));
+        }
+        games.add(game(user, word, null, GameStatus.IN_PROGRESS));
+        games.add(game(other, word, base, GameStatus.WON));
+        gameRepository.saveAll(games);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<GameHistoryEntry> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            GameHistoryResponse page = gameHistoryService.getHistory(user, cursor, 10);
+            seen.addAll(page.getGames());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        // Only projections: one query per page, no entity loaded.
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        assertEquals(25, seen.size());
+        for (int i = 1; i < seen.size(); i++) {
+            GameHistoryEntry previous = seen.get(i - 1);
+            GameHistoryEntry current = seen.get(i);
+            boolean ordered = previous.getEndTime().isAfter(current.getEndTime())
+                    || previous.getEndTime().equals(current.getEndTime()) && previous.getGameId() > current.getGameId();
+            assertEquals(true, ordered, "history out of order at " + i);
+        }
+        GameHistoryEntry newest = seen.getFirst();
+        assertEquals("GRAPHQL", newest.getWord());
+        assertEquals("History", newest.getTopic());
+        assertEquals(3, newest.getAttempts());
+        assertEquals(90, newest.getDurationSeconds());
+    }
+
+    @Test
+    void emptyHistoryAndMalformedCursors() {
+        User user = testData.user("history-empty");
+        GameHistoryResponse page = gameHistoryService.getHistory(user, null, 20);
+        assertEquals(0, page.getGames().size());
+        assertNull(page.getNextCursor());
+        assertThrows(InvalidRequestException.class, () -> gameHistoryService.getHistory(user, "not-a-cursor", 20));
+    }
+
+    @Test
+    void aMalformedCursorIsABadRequest() throws Exception {
+        User user = testData.user("history-bad-cursor");
+        mockMvc.perform(get("/api/games/history").param("cursor", "not-a-cursor")
+                        .header("Authorization", testData.bearer(user)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.detail").value("Invalid history cursor: not-a-cursor"));
+    }
+
+    private static Game game(User user, Word word, LocalDateTime endTime, GameStatus status) {
+        Game game = new Game();
+        game.setUser(user);
+        game.setTargetWord(word);
+        game.setStatus(status);
+        game.setAttempts(3);
+        game.setStartTime(endTime == null ? LocalDateTime.now() : endTime.minusSeconds(90));
+        game.setEndTime(endTime);
+        return game;
+    }
+}
@@ -0,0 +1,159 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.exception.ServiceBusyException;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hammers one user and one game from many threads. Half of the runs go through separate
+ * {@link GameService} instances, whose in-memory locks know nothing of each other, like several
+ * application instances on one database: there only the unique index and the game version protect
+ * the invariants.
+ */
+@SpringBootTest
+class GameServiceConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final String[] GUESSES = {"DRIFT", "PLUMB", "QUERY", "NOISY", "WHELP", "TOKEN", "BYTES", "FJORD"};
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private ApplicationContext context;
+    @Autowired
+    private WordIndex wordIndex;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentStartsCreateOneGameInProgress() throws Exception {
+        words();
+        for (List<GameService> services : List.of(List.of(gameService), instances(4))) {
+            User user = testData.user("racing-starter-" + services.size());
+
+            Outcome outcome = race(i -> () -> services.get(i % services.size()).startNewGame(user, "Concurrency"));
+
+            assertEquals(1, outcome.succeeded());
+            assertEquals(THREADS - 1, outcome.rejected());
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM games WHERE user_id = ? AND status = 'IN_PROGRESS'", Integer.class, user.getId()));
+        }
+    }
+
+    @Test
+    void concurrentGuessesNeverGoPastTheLastAttempt() throws Exception {
+        words();
+        for (List<GameService> services : List.of(List.of(gameService), instances(4))) {
+            User user = testData.user("racing-guesser-" + services.size());
+            Game game = gameService.startNewGame(user, "Concurrency");
+
+            Outcome outcome = race(i -> () -> services.get(i % services.size())
+                    .makeGuess(game.getId(), GUESSES[i % GUESSES.length], user));
+
+            int guesses = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM guesses WHERE game_id = ?", Integer.class, game.getId());
+            int attempts = jdbcTemplate.queryForObject(
+                    "SELECT attempts FROM games WHERE id = ?", Integer.class, game.getId());
+            String status = jdbcTemplate.queryForObject(
+                    "SELECT status FROM games WHERE id = ?", String.class, game.getId());
+            assertEquals(outcome.succeeded(), guesses);
+            assertEquals(guesses, attempts);
+            assertTrue(guesses <= GameService.MAX_ATTEMPTS);
+            if (services.size() == 1) {
+                // One instance serializes the guesses: exactly the allowed attempts get through.
+                assertEquals(GameService.MAX_ATTEMPTS, guesses);
+                assertEquals("LOST", status);
+            }
+        }
+    }
+
+    @Test
+    void otherIntegrityViolationsAreNotReportedAsAGameInProgress() {
+        User user = testData.user("racing-ghost-word");
+        // A word that is not in the table, as from a stale index: the foreign key fails.
+        assertThrows(DataIntegrityViolationException.class,
+                () -> gameService.startGameWithWord(user, "Concurrency", new WordIndex.IndexedWord(-42, "GHOST")));
+    }
+
+    /**
+     * Runs one task per thread, all released at once.
+     *
+     * @return how many tasks returned and how many were rejected with an expected exception.
+     */
+    private static Outcome race(IntFunction<Callable<?>> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                Callable<?> callable = task.apply(i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        callable.call();
+                        return true;
+                    } catch (IllegalStateException | ServiceBusyException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(60, TimeUnit.SECONDS)) {
+                    succeeded++;
+                }
+            }
+            return new Outcome(succeeded, THREADS - succeeded);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return new service instances, each with locks of its own.
+     */
+    private List<GameService> instances(int count) {
+        List<GameService> services = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            services.add(context.getAutowireCapableBeanFactory().createBean(GameService.class));
+        }
+        return services;
+    }
+
+    private void words() {
+        if (wordIndex.topicSize("Concurrency") == 0) {
+            testData.word("CLASH", "Concurrency");
+            for (String guess : GUESSES) {
+                testData.word(guess, "ConcurrencyGuesses");
+            }
+            wordIndex.refresh();
+        }
+    }
+
+    private record Outcome(int succeeded, int rejected) {
+    }
+}
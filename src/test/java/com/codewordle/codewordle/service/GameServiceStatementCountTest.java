@@ -0,0 +1,86 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.model.Word;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class GameServiceStatementCountTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private WordIndex wordIndex;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void makeGuessUsesAConstantNumberOfStatements() {
+        User user = testData.user("statements");
+
+        testData.word("LAMBDA", "StatementCount");
+        wordIndex.refresh();
+
+        Game game = gameService.startNewGame(user, "StatementCount");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        gameService.makeGuess(game.getId(), "stream", user);
+        // Game + word fetch, guess insert, game update, plus one sequence call per 50 guess ids.
+        assertTrue(statistics.getPrepareStatementCount() <= 4);
+
+        statistics.clear();
+        assertEquals(GameStatus.WON, gameService.makeGuess(game.getId(), "lambda", user).getGameStatus());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void startingAGameDoesNotLoadTheWord() throws Exception {
+        User user = testData.user("statements-start");
+        testData.word("CLOSURE", "StatementCountStart");
+        wordIndex.refresh();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(post("/api/games/start").header("Authorization", testData.bearer(user))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"topic\":\"StatementCountStart\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.wordLength").value(7));
+        // The word is picked from the index and its length comes from there: the row is never read.
+        assertEquals(0, statistics.getEntityStatistics(Word.class.getName()).getFetchCount());
+        assertEquals(0, statistics.getEntityStatistics(Word.class.getName()).getLoadCount());
+
+        // The same for the daily puzzle, whose text is kept with the schedule.
+        User dailyPlayer = testData.user("statements-start-daily");
+        statistics.clear();
+        mockMvc.perform(post("/api/games/start").header("Authorization", testData.bearer(dailyPlayer))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"topic\":\"StatementCountStart\",\"daily\":true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.wordLength").value(7));
+        assertEquals(0, statistics.getEntityStatistics(Word.class.getName()).getFetchCount());
+        assertEquals(0, statistics.getEntityStatistics(Word.class.getName()).getLoadCount());
+    }
+}
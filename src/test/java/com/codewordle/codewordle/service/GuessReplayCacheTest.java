@@ -0,0 +1,88 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.dto.GuessResult;
+import com.codewordle.codewordle.model.GameStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GuessReplayCacheTest {
+
+    private final GuessReplayCache cache = new GuessReplayCache(1000, Duration.ofMinutes(10));
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final Supplier<GuessResult> guess = () -> {
+        calls.incrementAndGet();
+        return new GuessResult(GameStatus.IN_PROGRESS, List.of(), 5, "CLASH", 1);
+    };
+
+    @Test
+    void aRepeatedSubmissionReturnsTheFirstResult() {
+        GuessResult first = cache.getOrMake(1, 10, "key-1", "drift", guess);
+        assertSame(first, cache.getOrMake(1, 10, "key-1", "DRIFT", guess));
+        assertEquals(1, calls.get());
+
+        // Another key, user, game or word is another submission.
+        cache.getOrMake(1, 10, "key-2", "drift", guess);
+        cache.getOrMake(2, 10, "key-1", "drift", guess);
+        cache.getOrMake(1, 11, "key-1", "drift", guess);
+        cache.getOrMake(1, 10, "key-1", "plumb", guess);
+        assertEquals(5, calls.get());
+    }
+
+    @Test
+    void failuresAreNotKept() {
+        assertThrows(IllegalStateException.class, () -> cache.getOrMake(1, 10, "key", "drift", () -> {
+            throw new IllegalStateException("busy");
+        }));
+        cache.getOrMake(1, 10, "key", "drift", guess);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void rejectsOversizedKeys() {
+        assertThrows(IllegalArgumentException.class,
+                () -> cache.getOrMake(1, 10, "k".repeat(GuessReplayCache.MAX_KEY_LENGTH + 1), "drift", guess));
+        assertThrows(IllegalArgumentException.class, () -> cache.getOrMake(1, 10, " ", "drift", guess));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void concurrentDuplicatesWaitForTheFirstSubmission() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<GuessResult> slowGuess = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return guess.get();
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<GuessResult>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cache.getOrMake(1, 10, "key", "drift", slowGuess)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        GuessResult first = results.getFirst().get(10, TimeUnit.SECONDS);
+        for (Future<GuessResult> result : results) {
+            assertSame(first, result.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,165 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.dto.HintResponse;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.GameRepository;
+import com.codewordle.codewordle.repository.UserRepository;
+import com.codewordle.codewordle.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class HintEngineTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private HintEngine hintEngine;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private WordIndex wordIndex;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WordRepository wordRepository;
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Test
+    void matchesBruteForceEntropyWithAndWithoutMatrix() {
+        // Five letters use the precomputed matrix, twelve letters compute feedback on the fly.
+        assertMatchesBruteForce("HintsShort", generate(5, 300, "ABCDEFGH"));
+        assertMatchesBruteForce("HintsLong", generate(12, 120, "ABCD"));
+    }
+
+    @Test
+    void hintsFollowTheGameWithoutUsingAttempts() {
+        saveWords("HintGame", List.of("KAFKA", "REDIS", "NGINX", "MYSQL", "MAVEN", "MONGO"));
+        wordIndex.refresh();
+        User user = testData.user("hints");
+
+        Game game = gameService.startNewGame(user, "HintGame");
+        HintResponse first = gameService.suggestHint(game.getId(), user);
+        assertEquals(6, first.getRemainingCandidates());
+        assertTrue(first.getExpectedInformationBits() > 0);
+        assertEquals(0, gameRepository.findById(game.getId()).orElseThrow().getAttempts());
+
+        // Following the hints always narrows the candidates down to the target.
+        String target = gameRepository.findWithTargetWordById(game.getId()).orElseThrow().getTargetWord().getText();
+        HintResponse hint = first;
+        while (!hint.getSuggestion().equals(target)) {
+            int before = hint.getRemainingCandidates();
+            gameService.makeGuess(game.getId(), hint.getSuggestion(), user);
+            hint = gameService.suggestHint(game.getId(), user);
+            assertTrue(hint.getRemainingCandidates() < before);
+        }
+        gameService.makeGuess(game.getId(), target, user);
+        assertThrows(IllegalStateException.class, () -> gameService.suggestHint(game.getId(), user));
+
+        User other = userRepository.save(copyOf(user, "hints-other"));
+        Game otherGame = gameService.startNewGame(other, "HintGame");
+        assertThrows(SecurityException.class, () -> gameService.suggestHint(otherGame.getId(), user));
+    }
+
+    @Test
+    void noSuggestionWhenNoWordMatchesTheFeedback() {
+        saveWords("HintStale", List.of("GRADLE", "GITHUB"));
+        wordIndex.refresh();
+        // A target that is no longer among the topic words, as after a word change.
+        assertTrue(hintEngine.suggest("HintStale", "GITLAB", List.of("GRADLE", "GITHUB")).isEmpty());
+        assertTrue(hintEngine.suggest("HintUnknown", "GITLAB", List.of()).isEmpty());
+    }
+
+    private void assertMatchesBruteForce(String topic, List<String> words) {
+        saveWords(topic, words);
+        wordIndex.refresh();
+        SplittableRandom random = new SplittableRandom(7);
+        for (int round = 0; round < 5; round++) {
+            String target = words.get(random.nextInt(words.size()));
+            List<String> guesses = new ArrayList<>();
+            for (int i = 0; i < round % 3; i++) {
+                guesses.add(words.get(random.nextInt(words.size())));
+            }
+
+            List<String> candidates = words.stream()
+                    .filter(word -> guesses.stream().allMatch(guess ->
+                            FeedbackEngine.compute(guess, word) == FeedbackEngine.compute(guess, target)))
+                    .toList();
+            double best = candidates.size() == 1 ? 0 : words.stream()
+                    .mapToDouble(guess -> entropy(guess, candidates))
+                    .max().orElseThrow();
+
+            HintEngine.Hint hint = hintEngine.suggest(topic, target, guesses).orElseThrow();
+            assertEquals(candidates.size(), hint.candidates());
+            assertEquals(best, hint.expectedBits(), 1e-9);
+            if (candidates.size() > 1) {
+                assertEquals(best, entropy(hint.word(), candidates), 1e-9);
+            } else {
+                assertEquals(target, hint.word());
+            }
+        }
+    }
+
+    private static double entropy(String guess, List<String> candidates) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (String candidate : candidates) {
+            counts.merge(FeedbackEngine.compute(guess, candidate), 1, Integer::sum);
+        }
+        double entropy = 0;
+        for (int count : counts.values()) {
+            double p = (double) count / candidates.size();
+            entropy -= p * Math.log(p) / Math.log(2);
+        }
+        return entropy;
+    }
+
+    private static List<String> generate(int length, int count, String alphabet) {
+        SplittableRandom random = new SplittableRandom(length);
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < count) {
+            StringBuilder word = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            words.add(word.toString());
+        }
+        return new ArrayList<>(words);
+    }
+
+    private void saveWords(String topic, List<String> texts) {
+        List<Word> words = new ArrayList<>();
+        for (String text : texts) {
+            Word word = new Word();
+            word.setText(text);
+            word.setTopic(topic);
+            words.add(word);
+        }
+        wordRepository.saveAll(words);
+    }
+
+    private static User copyOf(User user, String name) {
+        User copy = new User();
+        copy.setName(name);
+        copy.setEmail(name + "@codewordle.test");
+        copy.setPassword(user.getPassword());
+        copy.setRole(user.getRole());
+        return copy;
+    }
+}
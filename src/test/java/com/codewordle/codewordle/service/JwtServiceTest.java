@@ -0,0 +1,104 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.model.User;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtServiceTest {
+
+    private final TokenRevocationService tokenRevocationService = new TokenRevocationService();
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(tokenRevocationService);
+        ReflectionTestUtils.setField(jwtService, "secretKey",
+                "Y29kZXdvcmRsZS10ZXN0LXNlY3JldC1rZXktdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaHMyNTY=");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 60_000L);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheSize", 100L);
+        ReflectionTestUtils.setField(jwtService, "statelessPrincipal", true);
+        jwtService.init();
+    }
+
+    @Test
+    void rebuildsThePrincipalFromTheTokenClaims() {
+        String token = jwtService.generateToken(user());
+
+        User principal = jwtService.extractPrincipal(token).orElseThrow();
+
+        assertEquals(42, principal.getId());
+        assertEquals("ada", principal.getName());
+        assertEquals("ada@codewordle.test", principal.getUsername());
+        assertEquals("ROLE_USER", principal.getRole());
+        assertTrue(jwtService.isTokenValid(token, principal));
+    }
+
+    @Test
+    void rejectsRevokedTokens() {
+        String token = jwtService.generateToken(user());
+
+        tokenRevocationService.revokeAll(42);
+
+        assertFalse(jwtService.isTokenValid(token, jwtService.extractPrincipal(token).orElseThrow()));
+    }
+
+    @Test
+    void aTokenIssuedRightAfterARevocationIsValid() {
+        String revoked = jwtService.generateToken(user());
+
+        // Same second as the revocation: the issue date alone could not tell the tokens apart.
+        tokenRevocationService.revokeAll(42);
+        String token = jwtService.generateToken(user());
+
+        assertFalse(jwtService.isTokenValid(revoked, user()));
+        assertTrue(jwtService.isTokenValid(token, user()));
+    }
+
+    @Test
+    void aCachedTokenSkipsTheSignatureCheck() {
+        String token = jwtService.generateToken(user());
+        assertTrue(jwtService.isTokenValid(token, user()));
+
+        // From now on every signature check fails: only a cache hit can still accept the token.
+        ReflectionTestUtils.setField(jwtService, "jwtParser", Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(new byte[32]))
+                .build());
+
+        assertTrue(jwtService.isTokenValid(token, user()));
+        String uncached = jwtService.generateToken(Map.of(), user());
+        assertThrows(SignatureException.class, () -> jwtService.isTokenValid(uncached, user()));
+    }
+
+    @Test
+    void aCachedTokenIsRejectedOnceItExpires() throws InterruptedException {
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 1_000L);
+        String token = jwtService.generateToken(user());
+        assertTrue(jwtService.isTokenValid(token, user()));
+
+        // Expiration dates have second precision: the token expires within the next second.
+        Thread.sleep(1_100);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.isTokenValid(token, user()));
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(42);
+        user.setName("ada");
+        user.setEmail("ada@codewordle.test");
+        user.setRole("ROLE_USER");
+        return user;
+    }
+}
@@ -0,0 +1,38 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.model.GameStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LeaderboardTest {
+
+    @Test
+    void keepsTheBestPlayersInOrder() {
+        Leaderboard leaderboard = new Leaderboard(2);
+        leaderboard.update(1, "ada", stats(GameStatus.WON, 3));
+        leaderboard.update(2, "linus", stats(GameStatus.WON, 2));
+        leaderboard.update(3, "grace", stats(GameStatus.LOST, 6));
+
+        // Same number of wins and win rate: fewer attempts first.
+        assertEquals(List.of(2, 1), userIds(leaderboard));
+
+        // A player moving up replaces their previous entry.
+        leaderboard.update(3, "grace", stats(GameStatus.LOST, 6).record(GameStatus.WON, 4).record(GameStatus.WON, 5));
+        assertEquals(List.of(3, 2), userIds(leaderboard));
+
+        // A player dropping out of the top frees their place.
+        leaderboard.update(2, "linus", stats(GameStatus.WON, 2).record(GameStatus.LOST, 6));
+        assertEquals(List.of(3, 1), userIds(leaderboard));
+    }
+
+    private static GameStats stats(GameStatus status, int attempts) {
+        return GameStats.empty(6).record(status, attempts);
+    }
+
+    private static List<Integer> userIds(Leaderboard leaderboard) {
+        return leaderboard.top().stream().map(Leaderboard.Entry::userId).toList();
+    }
+}
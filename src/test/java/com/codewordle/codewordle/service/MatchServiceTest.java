@@ -0,0 +1,120 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.dto.MatchStateResponse;
+import com.codewordle.codewordle.exception.ResourceNotFoundException;
+import com.codewordle.codewordle.model.FeedbackStatus;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MatchServiceTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private WordIndex wordIndex;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void words() {
+        if (wordIndex.topicSize("Versus") == 0) {
+            testData.word("REDIS", "Versus");
+            testData.word("RAILS", "VersusGuesses");
+            wordIndex.refresh();
+        }
+    }
+
+    @Test
+    void playersShareTheWordAndSeeEachOthersColors() throws Exception {
+        User alice = testData.user("versus-alice");
+        User bob = testData.user("versus-bob");
+        MatchStateResponse created = matchService.createMatch(alice, "Versus");
+        MatchStateResponse joined = matchService.joinMatch(created.getMatchId().toLowerCase(), bob);
+
+        assertEquals(5, joined.getWordLength());
+        assertEquals(List.of("versus-alice", "versus-bob"), joined.getPlayers().stream().map(p -> p.getName()).toList());
+        assertFalse(created.getGameId().equals(joined.getGameId()));
+
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/matches/" + created.getMatchId() + "/events")
+                        .header("Authorization", testData.bearer(bob)))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        awaitContent(stream, "event:snapshot");
+
+        gameService.makeGuess(created.getGameId(), "rails", alice);
+        gameService.makeGuess(created.getGameId(), "redis", alice);
+        String events = awaitContent(stream, "\"status\":\"WON\"");
+
+        assertTrue(events.contains("event:progress"));
+        assertTrue(events.contains("\"colors\":[\"CORRECT_POSITION\",\"INCORRECT\",\"WRONG_POSITION\",\"INCORRECT\",\"CORRECT_POSITION\"]"));
+        assertTrue(events.contains("\"winner\":\"versus-alice\""));
+        // Colors only: the letters of the guesses never reach the other players.
+        assertFalse(events.contains("RAILS"));
+        assertFalse(events.substring(events.indexOf("event:progress")).contains("REDIS"));
+
+        MatchStateResponse state = matchService.getMatch(created.getMatchId(), bob);
+        assertEquals("versus-alice", state.getWinner());
+        assertEquals(2, state.getPlayers().getFirst().getRows().size());
+        assertEquals(GameStatus.WON, state.getPlayers().getFirst().getStatus());
+        assertEquals(List.of(FeedbackStatus.CORRECT_POSITION, FeedbackStatus.CORRECT_POSITION, FeedbackStatus.CORRECT_POSITION,
+                FeedbackStatus.CORRECT_POSITION, FeedbackStatus.CORRECT_POSITION), state.getPlayers().getFirst().getRows().get(1));
+        assertEquals(0, state.getPlayers().get(1).getRows().size());
+    }
+
+    @Test
+    void joiningClosesAtTheFirstGuessAndOnlyPlayersCanWatch() {
+        User carol = testData.user("versus-carol");
+        User dave = testData.user("versus-dave");
+        User erin = testData.user("versus-erin");
+        MatchStateResponse created = matchService.createMatch(carol, "Versus");
+        assertNull(created.getWinner());
+        matchService.joinMatch(created.getMatchId(), dave);
+        // Joining again is harmless.
+        assertEquals(2, matchService.joinMatch(created.getMatchId(), dave).getPlayers().size());
+
+        gameService.makeGuess(created.getGameId(), "rails", carol);
+
+        assertThrows(IllegalStateException.class, () -> matchService.joinMatch(created.getMatchId(), erin));
+        assertThrows(SecurityException.class, () -> matchService.getMatch(created.getMatchId(), erin));
+        assertThrows(SecurityException.class, () -> matchService.subscribe(created.getMatchId(), erin));
+        assertThrows(ResourceNotFoundException.class, () -> matchService.joinMatch("NOSUCHID", erin));
+        // The creator's game is in progress, so another match cannot start one.
+        assertThrows(IllegalStateException.class, () -> matchService.createMatch(carol, "Versus"));
+        assertEquals(1, matchService.getMatch(created.getMatchId(), dave).getPlayers().getFirst().getRows().size());
+    }
+
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(expected), "stream never received " + expected + ": " + content);
+        return content;
+    }
+}
@@ -0,0 +1,134 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.dto.LeaderboardEntryResponse;
+import com.codewordle.codewordle.dto.UserStatsResponse;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.GameStatus;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.repository.GameRepository;
+import com.codewordle.codewordle.repository.StatsSnapshotRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+class StatsServiceTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private StatsService statsService;
+    @Autowired
+    private WordIndex wordIndex;
+    @Autowired
+    private GameRepository gameRepository;
+    @Autowired
+    private StatsSnapshotRepository snapshotRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void aggregatesAreUpdatedPerFinishedGameAndSurviveARestart() {
+        testData.word("GRADLE", "Stats");
+        wordIndex.refresh();
+
+        User ada = testData.user("ada");
+        User linus = testData.user("linus");
+        win(ada, "docker", "gradle");
+        win(ada, "gradle");
+        lose(linus);
+
+        UserStatsResponse adaStats = statsService.getUserStats(ada.getId()).orElseThrow();
+        assertEquals(2, adaStats.getOverall().getWon());
+        assertEquals(2, adaStats.getOverall().getCurrentStreak());
+        assertEquals(1.5, adaStats.getOverall().getAverageAttempts());
+        assertEquals(List.of(1, 1, 0, 0, 0, 0), adaStats.getByTopic().get("Stats").getGuessDistribution());
+        assertEquals(3, statsService.getTopicStats("Stats").orElseThrow().getPlayed());
+        assertEquals(List.of("ada", "linus"), names(statsService.getLeaderboard("Stats")));
+
+        // A restarted engine restores the snapshot and does not count any game twice.
+        statsService.snapshot();
+        StatsService restarted = new StatsService(10, 5, gameRepository, snapshotRepository, objectMapper,
+                transactionManager);
+        restarted.load();
+        assertEquals(2, restarted.getUserStats(ada.getId()).orElseThrow().getOverall().getPlayed());
+        assertEquals(3, restarted.getTopicStats("Stats").orElseThrow().getPlayed());
+        assertEquals(List.of("ada", "linus"), names(restarted.getLeaderboard("Stats")));
+    }
+
+    @Test
+    void gamesOfDifferentPlayersAreRecordedConcurrently() throws Exception {
+        StatsService stats = new StatsService(5, 5, gameRepository, snapshotRepository, objectMapper,
+                transactionManager);
+        int threads = 8;
+        int gamesPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < gamesPerThread; i++) {
+                    long gameId = (long) thread * gamesPerThread + i;
+                    // Every player's games are spread over all threads.
+                    int userId = (int) (gameId % 40);
+                    stats.record(gameId, userId, "player-" + userId, "Concurrent" + (userId % 2),
+                            userId % 3 == 0 ? GameStatus.LOST : GameStatus.WON, 1 + i % 6, LocalDateTime.now());
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        int total = threads * gamesPerThread;
+        assertEquals(total, stats.getTopicStats("Concurrent0").orElseThrow().getPlayed()
+                + stats.getTopicStats("Concurrent1").orElseThrow().getPlayed());
+        for (int userId = 0; userId < 40; userId++) {
+            assertEquals(total / 40, stats.getUserStats(userId).orElseThrow().getOverall().getPlayed());
+        }
+        List<LeaderboardEntryResponse> leaderboard = stats.getLeaderboard();
+        assertEquals(5, leaderboard.size());
+        for (LeaderboardEntryResponse entry : leaderboard) {
+            assertEquals(total / 40, entry.getWon());
+        }
+        // A game counted twice is ignored.
+        assertFalse(stats.record(0, 0, "player-0", "Concurrent0", GameStatus.WON, 1, LocalDateTime.now()));
+    }
+
+    private void win(User user, String... guesses) {
+        Game game = gameService.startNewGame(user, "Stats");
+        for (String guess : guesses) {
+            gameService.makeGuess(game.getId(), guess, user);
+        }
+    }
+
+    private void lose(User user) {
+        Game game = gameService.startNewGame(user, "Stats");
+        for (int i = 0; i < GameService.MAX_ATTEMPTS; i++) {
+            gameService.makeGuess(game.getId(), "docker", user);
+        }
+    }
+
+    private static List<String> names(List<LeaderboardEntryResponse> leaderboard) {
+        return leaderboard.stream().map(LeaderboardEntryResponse::getName).toList();
+    }
+}
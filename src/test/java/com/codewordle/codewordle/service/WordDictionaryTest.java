@@ -0,0 +1,74 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.TestData;
+import com.codewordle.codewordle.model.Game;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.repository.GameRepository;
+import com.codewordle.codewordle.repository.GuessRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class WordDictionaryTest {
+
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private WordDictionary wordDictionary;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private WordIndex wordIndex;
+    @Autowired
+    private GameRepository gameRepository;
+    @Autowired
+    private GuessRepository guessRepository;
+
+    @Test
+    void bundledAndTopicWordsAreAllowed() {
+        assertTrue(wordDictionary.contains("KAFKA"));
+        assertTrue(wordDictionary.contains("kafka"));
+        assertTrue(wordDictionary.contains("Microservice"));
+        assertFalse(wordDictionary.contains("ZZZZZ"));
+        assertFalse(wordDictionary.contains("KAFK"));
+        assertFalse(wordDictionary.contains(""));
+
+        // Topic words are picked up as soon as the index changes, packable or not.
+        assertFalse(wordDictionary.contains("QUARKUS"));
+        assertFalse(wordDictionary.contains("oauth2"));
+        testData.word("QUARKUS", "Dictionary");
+        testData.word("OAUTH2", "Dictionary");
+        wordIndex.refresh();
+        assertTrue(wordDictionary.contains("quarkus"));
+        assertTrue(wordDictionary.contains("oauth2"));
+    }
+
+    @Test
+    void packingIsInjectiveAndRejectsOtherCharacters() {
+        assertNotEquals(WordDictionary.pack("A"), WordDictionary.pack("AA"));
+        assertEquals(WordDictionary.pack("Spring"), WordDictionary.pack("SPRING"));
+        assertEquals(0, WordDictionary.pack("JAVA8"));
+        assertEquals(0, WordDictionary.pack("ABCDEFGHIJKLM"));
+    }
+
+    @Test
+    void unknownGuessesAreRejectedBeforeAnyWrite() {
+        testData.word("LINUX", "DictionaryGame");
+        wordIndex.refresh();
+        User user = testData.user("dictionary");
+
+        Game game = gameService.startNewGame(user, "DictionaryGame");
+        assertThrows(IllegalArgumentException.class, () -> gameService.makeGuess(game.getId(), "zzzzz", user));
+
+        Game stored = gameRepository.findById(game.getId()).orElseThrow();
+        assertEquals(0, stored.getAttempts());
+        assertEquals(0, guessRepository.countByGame(stored));
+    }
+}
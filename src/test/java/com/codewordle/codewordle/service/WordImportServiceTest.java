@@ -0,0 +1,146 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.dto.WordImportResponse;
+import com.codewordle.codewordle.model.User;
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.WordRepository;
+import com.codewordle.codewordle.repository.WordsVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WordImportServiceTest {
+
+    @Autowired
+    private WordImportService wordImportService;
+    @Autowired
+    private WordIndex wordIndex;
+    @Autowired
+    private WordDictionary wordDictionary;
+    @Autowired
+    private WordRepository wordRepository;
+    @Autowired
+    private WordsVersionRepository wordsVersionRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void csvImportNormalizesDedupesAndRefreshesTheIndex() {
+        Word existing = new Word();
+        existing.setText("DOCKER");
+        existing.setTopic("ImportCsv");
+        wordRepository.save(existing);
+        wordIndex.refresh();
+
+        String csv = """
+                text,topic
+                docker,ImportCsv
+                Podman,ImportCsv
+                "podman", ImportCsv
+                helm
+
+                buildah,ImportCsv
+                ,ImportCsv
+                k3s,ImportCsv
+                "kube""let",ImportCsv
+                "unterminated,ImportCsv
+                kubectl,ImportCsv,extra
+                kubectl,"Import, Csv"
+                """;
+        long wordsVersion = wordsVersionRepository.current();
+        WordImportResponse response = wordImportService.importCsv(stream(csv), "ImportCsv");
+
+        assertEquals(13, response.getLinesRead());
+        assertEquals(4, response.getImported());
+        assertEquals(2, response.getDuplicates());
+        assertEquals(5, response.getRejected());
+        assertEquals(4, wordIndex.topicSize("ImportCsv"));
+        assertEquals(List.of("BUILDAH", "DOCKER", "HELM", "PODMAN"), wordRepository.findByTopic("ImportCsv").stream()
+                .map(Word::getText).sorted().toList());
+        assertEquals(List.of("KUBECTL"), wordRepository.findByTopic("Import, Csv").stream().map(Word::getText).toList());
+        assertTrue(wordDictionary.contains("buildah"));
+        assertEquals(wordsVersion + 1, wordsVersionRepository.current());
+    }
+
+    @Test
+    void csvLinesAreSplitOnCommasOutsideQuotes() {
+        assertEquals(List.of("a", "b"), WordImportService.parseCsvLine("a, b"));
+        assertEquals(List.of("a,b", "say \"hi\""), WordImportService.parseCsvLine("\"a,b\" , \"say \"\"hi\"\"\""));
+        assertEquals(List.of("a", ""), WordImportService.parseCsvLine("a,"));
+        assertNull(WordImportService.parseCsvLine("\"a"));
+        assertNull(WordImportService.parseCsvLine("\"a\"b,c"));
+        assertNull(WordImportService.parseCsvLine("a\"b,c"));
+    }
+
+    @Test
+    void ndjsonImportSkipsMalformedLinesAndWritesInBatches() {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 2_500; i++) {
+            ndjson.append("{\"text\":\"word").append(letters(i)).append("\",\"topic\":\"ImportJson\"}\n");
+        }
+        ndjson.append("{\"word\":\"alias\"}\n");
+        ndjson.append("{not json\n");
+
+        WordImportResponse response = wordImportService.importNdjson(stream(ndjson.toString()), "ImportJsonDefault");
+
+        assertEquals(2_502, response.getLinesRead());
+        assertEquals(2_501, response.getImported());
+        assertEquals(1, response.getRejected());
+        assertEquals(2_500, wordIndex.topicSize("ImportJson"));
+        assertEquals(1, wordIndex.topicSize("ImportJsonDefault"));
+    }
+
+    @Test
+    void importEndpointRequiresTheAdminRole() throws Exception {
+        mockMvc.perform(post("/api/admin/words/import").header("Authorization", bearer("ROLE_USER", 9001))
+                        .contentType("text/csv").content("quarkus,ImportApi"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/admin/words/import").header("Authorization", bearer("ROLE_ADMIN", 9002))
+                        .contentType("text/csv").content("quarkus,ImportApi"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+        assertEquals(1, wordIndex.topicSize("ImportApi"));
+    }
+
+    private String bearer(String role, int id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("import-" + id);
+        user.setEmail("import-" + id + "@codewordle.test");
+        user.setRole(role);
+        return "Bearer " + jwtService.generateToken(user);
+    }
+
+    /**
+     * @return a distinct letters-only suffix for each number.
+     */
+    private static String letters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+package com.codewordle.codewordle.service;
+
+import com.codewordle.codewordle.model.Word;
+import com.codewordle.codewordle.repository.WordRepository;
+import com.codewordle.codewordle.repository.WordsVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class WordPackTest {
+
+    @Autowired
+    private WordRepository wordRepository;
+    @Autowired
+    private WordsVersionRepository wordsVersionRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void roundTripsIdsAndTextsPerTopic(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("words.pack");
+        try (WordPack.Writer writer = new WordPack.Writer(file, 5)) {
+            writer.add(3, "Java", "jvm");
+            writer.add(7, "Java", "Lambda");
+            writer.add(4, "Spanish", "Año");
+            writer.add(9, "Spanish", "CLASE");
+        }
+
+        WordPack pack = WordPack.open(file);
+        assertEquals(5, pack.wordsVersion());
+        assertEquals(4, pack.wordCount());
+        assertEquals(9, pack.maxWordId());
+        assertEquals(2, pack.topics().size());
+
+        WordPack.TopicWords java = pack.topics().get("Java");
+        assertEquals(2, java.size());
+        assertEquals(3, java.id(0));
+        assertEquals("JVM", java.text(0));
+        assertEquals(7, java.id(1));
+        assertEquals("LAMBDA", java.text(1));
+
+        WordPack.TopicWords spanish = pack.topics().get("Spanish");
+        assertEquals("AÑO", spanish.text(0));
+        assertEquals("CLASE", spanish.text(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> spanish.text(2));
+    }
+
+    @Test
+    void rejectsEmptyAndForeignFiles(@TempDir Path dir) throws IOException {
+        Path empty = dir.resolve("empty.pack");
+        new WordPack.Writer(empty, 0).close();
+        assertEquals(0, WordPack.open(empty).wordCount());
+        assertTrue(WordPack.open(empty).topics().isEmpty());
+
+        Path foreign = Files.writeString(dir.resolve("foreign.pack"), "not a word pack at all, just text");
+        assertThrows(IOException.class, () -> WordPack.open(foreign));
+    }
+
+    @Test
+    void indexReusesAPackThatMatchesTheTable(@TempDir Path dir) throws IOException {
+        Path packPath = dir.resolve("words.pack");
+        WordIndex started = new WordIndex(packPath, wordRepository, wordsVersionRepository, transactionManager);
+        started.load();
+        FileTime generated = Files.getLastModifiedTime(packPath);
+
+        WordIndex restarted = new WordIndex(packPath, wordRepository, wordsVersionRepository, transactionManager);
+        restarted.load();
+        assertEquals(generated, Files.getLastModifiedTime(packPath));
+        assertEquals(started.topicSizes(), restarted.topicSizes());
+
+        Word word = new Word();
+        word.setText("MMAP");
+        word.setTopic("Pack");
+        wordRepository.save(word);
+        // Keep the modification times apart on coarse-grained file systems.
+        Files.setLastModifiedTime(packPath, FileTime.fromMillis(generated.toMillis() - 10_000));
+        FileTime stale = Files.getLastModifiedTime(packPath);
+
+        WordIndex outdated = new WordIndex(packPath, wordRepository, wordsVersionRepository, transactionManager);
+        outdated.load();
+        assertNotEquals(stale, Files.getLastModifiedTime(packPath));
+        assertEquals(1, outdated.topicSize("Pack"));
+        assertEquals("MMAP", outdated.randomWord("Pack").orElseThrow().text());
+    }
+
+    @Test
+    void indexRegeneratesAPackAfterAnInPlaceEdit(@TempDir Path dir) throws IOException {
+        Word word = new Word();
+        word.setText("SLAB");
+        word.setTopic("PackEdit");
+        word = wordRepository.save(word);
+        Path packPath = dir.resolve("words.pack");
+        new WordIndex(packPath, wordRepository, wordsVersionRepository, transactionManager).load();
+
+        // Same word count and highest id: only the words version tells the pack is outdated.
+        word.setText("HEAP");
+        wordRepository.save(word);
+        wordsVersionRepository.increment();
+
+        WordIndex restarted = new WordIndex(packPath, wordRepository, wordsVersionRepository, transactionManager);
+        restarted.load();
+        assertEquals("HEAP", restarted.randomWord("PackEdit").orElseThrow().text());
+    }
+}